@@ -34,6 +34,8 @@ public class Hashing {
 
     private static final HashFunction SHA1 = MessageDigestHashFunction.of("SHA-1");
 
+    private static final HashFunction MURMUR3_128 = new GuavaHashFunction(com.google.common.hash.Hashing.murmur3_128());
+
     public static HashFunction md5() {
         return MD5;
     }
@@ -42,7 +44,30 @@ public class Hashing {
         return SHA1;
     }
 
-    private static abstract class MessageDigestHashFunction implements HashFunction {
+    /**
+     * A fast, non-cryptographic 128-bit hash function. Should only be used for hashes that never leave the local machine.
+     */
+    public static HashFunction murmur3_128() {
+        return MURMUR3_128;
+    }
+
+    private static abstract class AbstractHashFunction implements HashFunction {
+        @Override
+        public HashCode hashBytes(byte[] bytes) {
+            Hasher hasher = newHasher();
+            hasher.putBytes(bytes);
+            return hasher.hash();
+        }
+
+        @Override
+        public HashCode hashString(CharSequence string) {
+            Hasher hasher = newHasher();
+            hasher.putString(string);
+            return hasher.hash();
+        }
+    }
+
+    private static abstract class MessageDigestHashFunction extends AbstractHashFunction {
         public static MessageDigestHashFunction of(String algorithm) {
             MessageDigest prototype;
             try {
@@ -64,20 +89,6 @@ public class Hashing {
             return new MessageDigestHasher(digest);
         }
 
-        @Override
-        public HashCode hashBytes(byte[] bytes) {
-            Hasher hasher = newHasher();
-            hasher.putBytes(bytes);
-            return hasher.hash();
-        }
-
-        @Override
-        public HashCode hashString(CharSequence string) {
-            Hasher hasher = newHasher();
-            hasher.putString(string);
-            return hasher.hash();
-        }
-
         protected abstract MessageDigest createDigest();
     }
 
@@ -115,14 +126,31 @@ public class Hashing {
         }
     }
 
-    private static class MessageDigestHasher implements Hasher {
-        private final MessageDigest digest;
+    private static class GuavaHashFunction extends AbstractHashFunction {
+        private final com.google.common.hash.HashFunction delegate;
+
+        public GuavaHashFunction(com.google.common.hash.HashFunction delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Hasher newHasher() {
+            return new GuavaHasher(delegate.newHasher());
+        }
+    }
+
+    /**
+     * Encodes values as bytes the same way for every hash function, so that subclasses only need to digest bytes.
+     */
+    private static abstract class AbstractHasher implements Hasher {
         private final ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
         private boolean done;
 
-        public MessageDigestHasher(MessageDigest digest) {
-            this.digest = digest;
-        }
+        protected abstract void update(byte b);
+
+        protected abstract void update(byte[] bytes, int off, int len);
+
+        protected abstract byte[] digest();
 
         private void checkNotDone() {
             if (done) {
@@ -133,44 +161,42 @@ public class Hashing {
         @Override
         public void putByte(byte b) {
             checkNotDone();
-            digest.update(b);
+            update(b);
         }
 
         @Override
         public void putBytes(byte[] bytes) {
-            checkNotDone();
-            digest.update(bytes);
+            putBytes(bytes, 0, bytes.length);
         }
 
         @Override
         public void putBytes(byte[] bytes, int off, int len) {
             checkNotDone();
-            digest.update(bytes, off, len);
+            update(bytes, off, len);
         }
 
         @Override
         public HashCode hash() {
             done = true;
-            byte[] bytes = digest.digest();
-            return HashCode.fromBytesNoCopy(bytes);
+            return HashCode.fromBytesNoCopy(digest());
         }
 
-        private void update(int length) {
+        private void updateFromBuffer(int length) {
             checkNotDone();
-            digest.update(buffer.array(), 0, length);
+            update(buffer.array(), 0, length);
             buffer.clear();
         }
 
         @Override
         public void putInt(int value) {
             buffer.putInt(value);
-            update(4);
+            updateFromBuffer(4);
         }
 
         @Override
         public void putLong(long value) {
             buffer.putLong(value);
-            update(8);
+            updateFromBuffer(8);
         }
 
         @Override
@@ -181,7 +207,6 @@ public class Hashing {
 
         @Override
         public void putBoolean(boolean value) {
-            checkNotDone();
             putByte((byte) (value ? 1 : 0));
         }
 
@@ -195,4 +220,50 @@ public class Hashing {
             putBytes(hashCode.getBytes());
         }
     }
+
+    private static class MessageDigestHasher extends AbstractHasher {
+        private final MessageDigest digest;
+
+        public MessageDigestHasher(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        protected void update(byte b) {
+            digest.update(b);
+        }
+
+        @Override
+        protected void update(byte[] bytes, int off, int len) {
+            digest.update(bytes, off, len);
+        }
+
+        @Override
+        protected byte[] digest() {
+            return digest.digest();
+        }
+    }
+
+    private static class GuavaHasher extends AbstractHasher {
+        private final com.google.common.hash.Hasher delegate;
+
+        public GuavaHasher(com.google.common.hash.Hasher delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected void update(byte b) {
+            delegate.putByte(b);
+        }
+
+        @Override
+        protected void update(byte[] bytes, int off, int len) {
+            delegate.putBytes(bytes, off, len);
+        }
+
+        @Override
+        protected byte[] digest() {
+            return delegate.hash().asBytes();
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.hash
+
+import spock.lang.Specification
+
+class HashingTest extends Specification {
+    def "murmur3 hashes match Guava"() {
+        def bytes = "Hello, World!".getBytes("UTF-8")
+        def expected = com.google.common.hash.Hashing.murmur3_128().hashBytes(bytes).asBytes()
+
+        expect:
+        Hashing.murmur3_128().hashBytes(bytes).toByteArray() == expected
+        Hashing.murmur3_128().hashString("Hello, World!").toByteArray() == expected
+    }
+
+    def "murmur3 hasher hashes chunks the same as whole input"() {
+        def bytes = (0..<100).collect { (byte) it } as byte[]
+        def hasher = Hashing.murmur3_128().newHasher()
+
+        when:
+        hasher.putBytes(bytes, 0, 30)
+        hasher.putBytes(bytes, 30, 70)
+
+        then:
+        hasher.hash() == Hashing.murmur3_128().hashBytes(bytes)
+    }
+
+    def "murmur3 hasher cannot be reused"() {
+        def hasher = Hashing.murmur3_128().newHasher()
+        hasher.hash()
+
+        when:
+        hasher.putInt(1)
+
+        then:
+        thrown IllegalStateException
+    }
+}
@@ -33,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 @Fork(1)
 @Warmup(iterations = 5)
@@ -109,4 +110,23 @@ public class FileWalkingBenchmark {
         Path path = missing ? missingPath : existingPath;
         blackhole.consume(Files.exists(path));
     }
+
+    @Benchmark
+    public void java6metadata(Blackhole blackhole) {
+        File file = missing ? missingFile : existingFile;
+        blackhole.consume(file.isFile());
+        blackhole.consume(file.lastModified());
+        blackhole.consume(file.length());
+    }
+
+    @Benchmark
+    public void java7metadata(Blackhole blackhole) throws IOException {
+        Path path = missing ? missingPath : existingPath;
+        if (Files.exists(path)) {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            blackhole.consume(attributes.isRegularFile());
+            blackhole.consume(attributes.lastModifiedTime());
+            blackhole.consume(attributes.size());
+        }
+    }
 }
@@ -21,6 +21,7 @@ import org.gradle.api.file.FileTreeElement;
 import org.gradle.api.internal.cache.StringInterner;
 import org.gradle.cache.PersistentIndexedCache;
 import org.gradle.internal.file.FileMetadataSnapshot;
+import org.gradle.internal.hash.ContentHashFunction;
 import org.gradle.internal.hash.FileHasher;
 import org.gradle.internal.hash.HashCode;
 import org.gradle.internal.nativeintegration.filesystem.FileSystem;
@@ -37,9 +38,11 @@ public class CachingFileHasher implements FileHasher {
     private final FileSystem fileSystem;
     private final StringInterner stringInterner;
     private final FileTimeStampInspector timestampInspector;
+    private final ContentHashFunction hashFunction;
 
-    public CachingFileHasher(FileHasher delegate, TaskHistoryStore store, StringInterner stringInterner, FileTimeStampInspector timestampInspector, String cacheName, FileSystem fileSystem) {
+    public CachingFileHasher(FileHasher delegate, ContentHashFunction hashFunction, TaskHistoryStore store, StringInterner stringInterner, FileTimeStampInspector timestampInspector, String cacheName, FileSystem fileSystem) {
         this.delegate = delegate;
+        this.hashFunction = hashFunction;
         this.fileSystem = fileSystem;
         this.cache = store.createCache(cacheName, String.class, new FileInfoSerializer(), 400000, true);
         this.stringInterner = stringInterner;
@@ -80,13 +83,13 @@ public class CachingFileHasher implements FileHasher {
         if (timestampInspector.timestampCanBeUsedToDetectFileChange(absolutePath, timestamp)) {
             FileInfo info = cache.get(absolutePath);
 
-            if (info != null && length == info.length && timestamp == info.timestamp) {
+            if (info != null && hashFunction == info.hashFunction && length == info.length && timestamp == info.timestamp) {
                 return info;
             }
         }
 
         HashCode hash = delegate.hash(file);
-        FileInfo info = new FileInfo(hash, length, timestamp);
+        FileInfo info = new FileInfo(hash, hashFunction, length, timestamp);
         cache.put(stringInterner.intern(absolutePath), info);
         return info;
     }
@@ -98,11 +101,13 @@ public class CachingFileHasher implements FileHasher {
     @VisibleForTesting
     static class FileInfo {
         private final HashCode hash;
+        private final ContentHashFunction hashFunction;
         private final long timestamp;
         private final long length;
 
-        public FileInfo(HashCode hash, long length, long timestamp) {
+        public FileInfo(HashCode hash, ContentHashFunction hashFunction, long length, long timestamp) {
             this.hash = hash;
+            this.hashFunction = hashFunction;
             this.length = length;
             this.timestamp = timestamp;
         }
@@ -113,17 +118,20 @@ public class CachingFileHasher implements FileHasher {
     }
 
     private static class FileInfoSerializer extends AbstractSerializer<FileInfo> {
+        private static final ContentHashFunction[] HASH_FUNCTIONS = ContentHashFunction.values();
         private final HashCodeSerializer hashCodeSerializer = new HashCodeSerializer();
 
         public FileInfo read(Decoder decoder) throws Exception {
             HashCode hash = hashCodeSerializer.read(decoder);
+            ContentHashFunction hashFunction = HASH_FUNCTIONS[decoder.readSmallInt()];
             long timestamp = decoder.readLong();
             long length = decoder.readLong();
-            return new FileInfo(hash, length, timestamp);
+            return new FileInfo(hash, hashFunction, length, timestamp);
         }
 
         public void write(Encoder encoder, FileInfo value) throws Exception {
             hashCodeSerializer.write(encoder, value.hash);
+            encoder.writeSmallInt(value.hashFunction.ordinal());
             encoder.writeLong(value.timestamp);
             encoder.writeLong(value.length);
         }
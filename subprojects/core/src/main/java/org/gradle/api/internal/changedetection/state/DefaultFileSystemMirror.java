@@ -24,6 +24,7 @@ import org.gradle.internal.file.FileHierarchySet;
 
 import javax.annotation.Nullable;
 import java.io.File;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -123,6 +124,40 @@ public class DefaultFileSystemMirror implements FileSystemMirror, TaskOutputChan
         snapshots.clear();
     }
 
+    @Override
+    public void beforeTaskOutputChanged(Iterable<String> affectedOutputPaths) {
+        // Only throw away the state for the affected locations and their ancestors, so that the outputs of
+        // previously executed tasks can be reused as the inputs of the tasks which consume them
+        FileHierarchySet affectedRoots = DefaultFileHierarchySet.of();
+        for (String path : affectedOutputPaths) {
+            affectedRoots = affectedRoots.plus(new File(path));
+        }
+        invalidate(files, affectedRoots, affectedOutputPaths);
+        invalidate(trees, affectedRoots, affectedOutputPaths);
+        invalidate(snapshots, affectedRoots, affectedOutputPaths);
+    }
+
+    private static void invalidate(Map<String, ?> state, FileHierarchySet affectedRoots, Iterable<String> affectedOutputPaths) {
+        Iterator<String> iterator = state.keySet().iterator();
+        while (iterator.hasNext()) {
+            String path = iterator.next();
+            if (affectedRoots.contains(path) || isAncestorOfAny(path, affectedOutputPaths)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static boolean isAncestorOfAny(String path, Iterable<String> affectedOutputPaths) {
+        for (String affectedPath : affectedOutputPaths) {
+            if (affectedPath.length() > path.length()
+                && affectedPath.startsWith(path)
+                && (affectedPath.charAt(path.length()) == File.separatorChar || path.endsWith(File.separator))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void afterStart() {
     }
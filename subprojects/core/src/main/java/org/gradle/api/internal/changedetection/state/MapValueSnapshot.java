@@ -48,6 +48,9 @@ public class MapValueSnapshot implements ValueSnapshot, Isolatable<Map> {
 
     @Override
     public ValueSnapshot snapshot(Object value, ValueSnapshotter snapshotter) {
+        if (value instanceof Map && hasSameEntries((Map<?, ?>) value, snapshotter)) {
+            return this;
+        }
         ValueSnapshot newSnapshot = snapshotter.snapshot(value);
         if (equals(newSnapshot)) {
             return this;
@@ -55,6 +58,22 @@ public class MapValueSnapshot implements ValueSnapshot, Isolatable<Map> {
         return newSnapshot;
     }
 
+    /**
+     * Compares the given map with this snapshot entry by entry, without building a new snapshot of the map.
+     */
+    private boolean hasSameEntries(Map<?, ?> map, ValueSnapshotter snapshotter) {
+        if (map.size() != entries.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            ValueSnapshot previousValue = entries.get(snapshotter.snapshot(entry.getKey()));
+            if (previousValue == null || snapshotter.snapshot(entry.getValue(), previousValue) != previousValue) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
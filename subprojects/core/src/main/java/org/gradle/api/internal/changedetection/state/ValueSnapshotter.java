@@ -16,6 +16,9 @@
 
 package org.gradle.api.internal.changedetection.state;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import org.gradle.api.Named;
@@ -27,7 +30,10 @@ import org.gradle.api.internal.changedetection.state.isolation.IsolatableSeriali
 import org.gradle.api.internal.changedetection.state.isolation.IsolatableValueSnapshotStrategy;
 import org.gradle.api.internal.changedetection.state.isolation.IsolationException;
 import org.gradle.api.internal.model.NamedObjectInstantiator;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
 import org.gradle.api.provider.Provider;
+import org.gradle.initialization.RootBuildLifecycleListener;
 import org.gradle.internal.Cast;
 import org.gradle.internal.classloader.ClassLoaderHierarchyHasher;
 
@@ -39,12 +45,19 @@ import java.lang.reflect.Array;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ValueSnapshotter implements IsolatableFactory, RootBuildLifecycleListener {
+    private static final Logger LOGGER = Logging.getLogger(ValueSnapshotter.class);
 
-public class ValueSnapshotter implements IsolatableFactory {
     private final ClassLoaderHierarchyHasher classLoaderHasher;
     private final NamedObjectInstantiator namedObjectInstantiator;
     private final ValueSnapshotStrategy valueSnapshotStrategy;
     private final IsolatableValueSnapshotStrategy isolatedSnapshotStrategy;
+    // Keyed by identity. Only holds snapshots of immutable collections whose elements are immutable too
+    private final Cache<Object, ValueSnapshot> immutableCollectionSnapshots = CacheBuilder.newBuilder().weakKeys().build();
+    private final AtomicLong snapshottedCollections = new AtomicLong();
+    private final AtomicLong reusedCollectionSnapshots = new AtomicLong();
 
     public ValueSnapshotter(ClassLoaderHierarchyHasher classLoaderHasher, NamedObjectInstantiator namedObjectInstantiator) {
         this.classLoaderHasher = classLoaderHasher;
@@ -61,9 +74,80 @@ public class ValueSnapshotter implements IsolatableFactory {
      * @throws UncheckedIOException On failure to snapshot the value.
      */
     public ValueSnapshot snapshot(Object value) throws UncheckedIOException {
+        if (isImmutableCollection(value)) {
+            ValueSnapshot snapshot = immutableCollectionSnapshots.getIfPresent(value);
+            if (snapshot != null) {
+                reusedCollectionSnapshots.incrementAndGet();
+                return snapshot;
+            }
+            snapshottedCollections.incrementAndGet();
+            snapshot = processValue(value, valueSnapshotStrategy);
+            if (isDeeplyImmutable(value)) {
+                immutableCollectionSnapshots.put(value, snapshot);
+            }
+            return snapshot;
+        }
         return processValue(value, valueSnapshotStrategy);
     }
 
+    /**
+     * Returns the number of immutable collections that were snapshotted since the start of the current build.
+     */
+    public long getSnapshottedCollectionCount() {
+        return snapshottedCollections.get();
+    }
+
+    /**
+     * Returns the number of immutable collections whose snapshot was reused since the start of the current build.
+     */
+    public long getReusedCollectionSnapshotCount() {
+        return reusedCollectionSnapshots.get();
+    }
+
+    @Override
+    public void afterStart() {
+        snapshottedCollections.set(0);
+        reusedCollectionSnapshots.set(0);
+    }
+
+    @Override
+    public void beforeComplete() {
+        LOGGER.debug("Snapshotted {} immutable collections, reused {} previous snapshots.", snapshottedCollections.get(), reusedCollectionSnapshots.get());
+    }
+
+    private static boolean isImmutableCollection(Object value) {
+        return value instanceof ImmutableList || value instanceof ImmutableSet || value instanceof ImmutableMap;
+    }
+
+    /**
+     * Determines whether the state of the given value can never change, so that its snapshot can be reused for as long as the value is alive.
+     */
+    private static boolean isDeeplyImmutable(Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Enum) {
+            return true;
+        }
+        if (value.getClass().equals(File.class)) {
+            return true;
+        }
+        if (value instanceof ImmutableList || value instanceof ImmutableSet) {
+            for (Object element : (Iterable<?>) value) {
+                if (!isDeeplyImmutable(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof ImmutableMap) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!isDeeplyImmutable(entry.getKey()) || !isDeeplyImmutable(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Create an {@link Isolatable} of a value. An isolatable represents a snapshot of the state of the value that can later be used to recreate the value as a Java object.
      *
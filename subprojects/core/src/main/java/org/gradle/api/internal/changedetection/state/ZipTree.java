@@ -18,13 +18,29 @@ package org.gradle.api.internal.changedetection.state;
 
 import org.apache.commons.io.IOUtils;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
+/**
+ * Visits the entries of a zip file.
+ *
+ * <p>The entries are located using the central directory, so that entries which are ignored by the visitor are never inflated.
+ * The contents of an entry are only read when the visitor asks for them, and their CRC is checked once they have been read fully.
+ * Archives without a readable central directory, or with several entries of the same name, are streamed instead, as entries are looked
+ * up by name in the central directory.</p>
+ */
 public class ZipTree implements ResourceTree {
     private final FileSnapshot zipFile;
 
@@ -35,6 +51,52 @@ public class ZipTree implements ResourceTree {
     @Override
     public void visit(ResourceWithContentsVisitor visitor) throws IOException {
         String zipFilePath = zipFile.getPath();
+        ZipFile zip;
+        try {
+            zip = new ZipFile(new File(zipFilePath));
+        } catch (ZipException e) {
+            visitStreaming(zipFilePath, visitor);
+            return;
+        }
+        try {
+            if (!hasDuplicateEntryNames(zip)) {
+                visitEntries(zip, visitor);
+                return;
+            }
+        } finally {
+            IOUtils.closeQuietly(zip);
+        }
+        visitStreaming(zipFilePath, visitor);
+    }
+
+    private static void visitEntries(ZipFile zip, ResourceWithContentsVisitor visitor) throws IOException {
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry zipEntry = entries.nextElement();
+            if (zipEntry.isDirectory()) {
+                continue;
+            }
+            LazyEntryInputStream entryInput = new LazyEntryInputStream(zip, zipEntry);
+            try {
+                visitor.visitZipFileEntry(zipEntry, entryInput);
+            } finally {
+                entryInput.close();
+            }
+        }
+    }
+
+    private static boolean hasDuplicateEntryNames(ZipFile zip) {
+        Set<String> names = new HashSet<String>(zip.size());
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements()) {
+            if (!names.add(entries.nextElement().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void visitStreaming(String zipFilePath, ResourceWithContentsVisitor visitor) throws IOException {
         InputStream fileInputStream = null;
         try {
             fileInputStream = Files.newInputStream(Paths.get(zipFilePath));
@@ -51,4 +113,66 @@ public class ZipTree implements ResourceTree {
             IOUtils.closeQuietly(fileInputStream);
         }
     }
+
+    /**
+     * Opens the entry on first read, so that entries whose content is not needed are never inflated. Unlike {@link ZipInputStream}, the streams
+     * of {@link ZipFile} do not verify the CRC of an entry, so this is done here once the end of the entry is reached.
+     */
+    private static class LazyEntryInputStream extends InputStream {
+        private final ZipFile zip;
+        private final ZipEntry entry;
+        private CheckedInputStream delegate;
+        private boolean verified;
+
+        LazyEntryInputStream(ZipFile zip, ZipEntry entry) {
+            this.zip = zip;
+            this.entry = entry;
+        }
+
+        private InputStream getDelegate() throws IOException {
+            if (delegate == null) {
+                delegate = new CheckedInputStream(zip.getInputStream(entry), new CRC32());
+            }
+            return delegate;
+        }
+
+        private int verifyAtEnd(int result) throws ZipException {
+            if (result == -1 && !verified) {
+                verified = true;
+                long expected = entry.getCrc();
+                long actual = delegate.getChecksum().getValue();
+                if (expected != -1 && expected != actual) {
+                    throw new ZipException(String.format("invalid entry CRC (expected 0x%x but got 0x%x)", expected, actual));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return verifyAtEnd(getDelegate().read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return verifyAtEnd(getDelegate().read(b, off, len));
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return getDelegate().skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate == null ? 0 : delegate.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+    }
 }
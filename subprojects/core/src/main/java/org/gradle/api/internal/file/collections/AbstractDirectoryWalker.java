@@ -23,6 +23,8 @@ import org.gradle.api.file.FileVisitor;
 import org.gradle.api.file.RelativePath;
 import org.gradle.api.internal.file.DefaultFileVisitDetails;
 import org.gradle.api.specs.Spec;
+import org.gradle.internal.file.FileMetadataSnapshot;
+import org.gradle.internal.file.FileType;
 import org.gradle.internal.nativeintegration.filesystem.FileSystem;
 
 import java.io.File;
@@ -50,9 +52,13 @@ public abstract class AbstractDirectoryWalker implements DirectoryWalker {
         List<FileVisitDetails> dirs = new ArrayList<FileVisitDetails>();
         for (int i = 0; !stopFlag.get() && i < children.length; i++) {
             File child = children[i];
-            boolean isFile = child.isFile();
+            // Use a single stat call to determine the type, length and timestamp of regular files
+            FileMetadataSnapshot metadata = fileSystem.stat(child);
+            boolean isFile = metadata.getType() == FileType.RegularFile;
             RelativePath childPath = path.append(isFile, child.getName());
-            FileVisitDetails details = new DefaultFileVisitDetails(child, childPath, stopFlag, fileSystem, fileSystem, !isFile);
+            FileVisitDetails details = isFile
+                ? new DefaultFileVisitDetails(child, childPath, stopFlag, fileSystem, fileSystem, false, metadata.getLastModified(), metadata.getLength())
+                : new DefaultFileVisitDetails(child, childPath, stopFlag, fileSystem, fileSystem, true);
             if (DirectoryFileTree.isAllowed(details, spec)) {
                 if (isFile) {
                     visitor.visitFile(details);
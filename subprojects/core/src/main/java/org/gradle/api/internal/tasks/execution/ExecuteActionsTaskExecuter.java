@@ -43,6 +43,7 @@ import org.gradle.internal.operations.BuildOperationRef;
 import org.gradle.internal.scopeids.id.BuildInvocationScopeId;
 import org.gradle.internal.work.AsyncWorkTracker;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -70,7 +71,12 @@ public class ExecuteActionsTaskExecuter implements TaskExecuter {
     public void execute(TaskInternal task, TaskStateInternal state, TaskExecutionContext context) {
         listener.beforeActions(task);
         if (task.hasTaskActions()) {
-            outputsGenerationListener.beforeTaskOutputChanged();
+            TaskProperties taskProperties = context.getTaskProperties();
+            if (taskProperties != null && taskProperties.hasDeclaredOutputs()) {
+                outputsGenerationListener.beforeTaskOutputChanged(getChangingOutputs(taskProperties));
+            } else {
+                outputsGenerationListener.beforeTaskOutputChanged();
+            }
         }
         state.setExecuting(true);
         try {
@@ -89,6 +95,20 @@ public class ExecuteActionsTaskExecuter implements TaskExecuter {
         }
     }
 
+    private static List<String> getChangingOutputs(TaskProperties taskProperties) {
+        List<String> changingOutputs = new ArrayList<String>();
+        for (File file : taskProperties.getOutputFiles()) {
+            changingOutputs.add(file.getAbsolutePath());
+        }
+        for (File file : taskProperties.getLocalStateFiles()) {
+            changingOutputs.add(file.getAbsolutePath());
+        }
+        for (File file : taskProperties.getDestroyableFiles()) {
+            changingOutputs.add(file.getAbsolutePath());
+        }
+        return changingOutputs;
+    }
+
     private GradleException executeActions(TaskInternal task, TaskStateInternal state, TaskExecutionContext context) {
         LOGGER.debug("Executing actions for {}.", task);
         final List<ContextAwareTaskAction> actions = new ArrayList<ContextAwareTaskAction>(task.getTaskActions());
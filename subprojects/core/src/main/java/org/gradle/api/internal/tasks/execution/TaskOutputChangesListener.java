@@ -22,4 +22,11 @@ public interface TaskOutputChangesListener {
      * This is for example just before the task actions are executed or the outputs are loaded from the cache.
      */
     void beforeTaskOutputChanged();
+
+    /**
+     * Invoked when the outputs for a task are about to change, and it is known that only the given locations will be changed.
+     *
+     * @param affectedOutputPaths the absolute paths of the output roots which are about to change
+     */
+    void beforeTaskOutputChanged(Iterable<String> affectedOutputPaths);
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.hash;
+
+/**
+ * The hash function used by the caching file hashers to hash the content of files on the local machine. Every file content hash goes
+ * through these hashers, including those of build scripts, class loaders and classpath entries, so all of them follow the selected function.
+ * Hashes of values and other in-memory state always use MD5.
+ *
+ * <p>The selected function is recorded alongside persisted file hashes, so that hashes produced by different functions are never mixed.
+ * Since file content hashes are part of task input fingerprints and class loader hashes, the build cache keys produced with a non-default
+ * function only match those of other machines using the same function.</p>
+ *
+ * <p>The function is read from the {@value #SYSTEM_PROPERTY} system property once, when the Gradle process starts, and is fixed for the
+ * lifetime of a daemon. It should therefore be set through {@code org.gradle.jvmargs}: a daemon started with different JVM arguments is
+ * not reused.</p>
+ */
+public enum ContentHashFunction {
+    // Persisted by ordinal, only append new values
+    MD5(Hashing.md5()),
+    MURMUR3_128(Hashing.murmur3_128());
+
+    public static final String SYSTEM_PROPERTY = "org.gradle.internal.hash.content";
+
+    private final HashFunction hashFunction;
+
+    ContentHashFunction(HashFunction hashFunction) {
+        this.hashFunction = hashFunction;
+    }
+
+    public HashFunction getHashFunction() {
+        return hashFunction;
+    }
+
+    public static ContentHashFunction fromSystemProperties() {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if (value == null) {
+            return MD5;
+        }
+        for (ContentHashFunction function : values()) {
+            if (function.name().equalsIgnoreCase(value)) {
+                return function;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown content hash function '%s' specified by system property '%s'.", value, SYSTEM_PROPERTY));
+    }
+}
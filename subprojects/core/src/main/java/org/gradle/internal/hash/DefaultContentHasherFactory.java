@@ -17,12 +17,26 @@
 package org.gradle.internal.hash;
 
 public class DefaultContentHasherFactory implements ContentHasherFactory {
-    private static final HashCode SIGNATURE = Hashing.md5().hashString(DefaultContentHasherFactory.class.getName());
+    private final HashFunction hashFunction;
+    private final HashCode signature;
+
+    public DefaultContentHasherFactory() {
+        this(ContentHashFunction.MD5);
+    }
+
+    public DefaultContentHasherFactory(ContentHashFunction contentHashFunction) {
+        this.hashFunction = contentHashFunction.getHashFunction();
+        String signatureSource = DefaultContentHasherFactory.class.getName();
+        if (contentHashFunction != ContentHashFunction.MD5) {
+            signatureSource += ":" + contentHashFunction.name();
+        }
+        this.signature = Hashing.md5().hashString(signatureSource);
+    }
 
     @Override
     public Hasher create() {
-        Hasher hasher = Hashing.md5().newHasher();
-        hasher.putHash(SIGNATURE);
+        Hasher hasher = hashFunction.newHasher();
+        hasher.putHash(signature);
         return hasher;
     }
 }
@@ -75,6 +75,7 @@ import org.gradle.internal.environment.GradleBuildEnvironment;
 import org.gradle.internal.event.ListenerManager;
 import org.gradle.internal.filewatch.DefaultFileWatcherFactory;
 import org.gradle.internal.filewatch.FileWatcherFactory;
+import org.gradle.internal.hash.ContentHashFunction;
 import org.gradle.internal.hash.ContentHasherFactory;
 import org.gradle.internal.hash.DefaultContentHasherFactory;
 import org.gradle.internal.hash.DefaultStreamHasher;
@@ -353,6 +354,10 @@ public class GlobalScopeServices extends BasicGlobalScopeServices {
         return new DefaultBuildOperationIdFactory();
     }
 
+    ContentHashFunction createContentHashFunction() {
+        return ContentHashFunction.fromSystemProperties();
+    }
+
     ContentHasherFactory createHasherFactory() {
         return new DefaultContentHasherFactory();
     }
@@ -21,6 +21,7 @@ import org.gradle.api.internal.cache.StringInterner
 import org.gradle.api.internal.changedetection.state.CachingFileHasher.FileInfo
 import org.gradle.api.internal.file.TestFiles
 import org.gradle.cache.PersistentIndexedCache
+import org.gradle.internal.hash.ContentHashFunction
 import org.gradle.internal.hash.FileHasher
 import org.gradle.internal.hash.Hashing
 import org.gradle.internal.nativeintegration.filesystem.DefaultFileMetadata
@@ -44,7 +45,7 @@ class CachingFileHasherTest extends Specification {
     def setup() {
         file.write("some-content")
         1 * cacheAccess.createCache("fileHashes", _, _, _, _) >> cache
-        hasher = new CachingFileHasher(target, cacheAccess, new StringInterner(), timeStampInspector, "fileHashes", fileSystem)
+        hasher = new CachingFileHasher(target, ContentHashFunction.MD5, cacheAccess, new StringInterner(), timeStampInspector, "fileHashes", fileSystem)
     }
 
     def hashesFileWhenHashNotCached() {
@@ -79,7 +80,7 @@ class CachingFileHasherTest extends Specification {
 
         and:
         1 * timeStampInspector.timestampCanBeUsedToDetectFileChange(file.absolutePath, stat.lastModified) >> true
-        1 * cache.get(file.absolutePath) >> new FileInfo(oldHash, 1024, stat.lastModified)
+        1 * cache.get(file.absolutePath) >> new FileInfo(oldHash, ContentHashFunction.MD5, 1024, stat.lastModified)
         1 * target.hash(file) >> hash
         1 * cache.put(file.absolutePath, _) >> { String key, FileInfo fileInfo ->
             assert fileInfo.hash == hash
@@ -100,7 +101,7 @@ class CachingFileHasherTest extends Specification {
 
         and:
         1 * timeStampInspector.timestampCanBeUsedToDetectFileChange(file.absolutePath, stat.lastModified) >> true
-        1 * cache.get(file.absolutePath) >> new FileInfo(oldHash, file.length(), 124)
+        1 * cache.get(file.absolutePath) >> new FileInfo(oldHash, ContentHashFunction.MD5, file.length(), 124)
         1 * target.hash(file) >> hash
         1 * cache.put(file.absolutePath, _) >> { String key, FileInfo fileInfo ->
             assert fileInfo.hash == hash
@@ -121,7 +122,27 @@ class CachingFileHasherTest extends Specification {
 
         and:
         1 * timeStampInspector.timestampCanBeUsedToDetectFileChange(file.absolutePath, stat.lastModified) >> true
-        1 * cache.get(file.absolutePath) >> new FileInfo(hash, stat.length, stat.lastModified)
+        1 * cache.get(file.absolutePath) >> new FileInfo(hash, ContentHashFunction.MD5, stat.length, stat.lastModified)
+        0 * _._
+    }
+
+    def hashesFileWhenCachedHashWasProducedByDifferentHashFunction() {
+        def stat = fileSystem.stat(file)
+
+        when:
+        def result = hasher.hash(file)
+
+        then:
+        result == hash
+
+        and:
+        1 * timeStampInspector.timestampCanBeUsedToDetectFileChange(file.absolutePath, stat.lastModified) >> true
+        1 * cache.get(file.absolutePath) >> new FileInfo(oldHash, ContentHashFunction.MURMUR3_128, stat.length, stat.lastModified)
+        1 * target.hash(file) >> hash
+        1 * cache.put(file.absolutePath, _) >> { String key, FileInfo fileInfo ->
+            assert fileInfo.hash == hash
+            assert fileInfo.hashFunction == ContentHashFunction.MD5
+        }
         0 * _._
     }
 
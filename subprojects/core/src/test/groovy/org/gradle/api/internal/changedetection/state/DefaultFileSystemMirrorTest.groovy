@@ -68,6 +68,29 @@ class DefaultFileSystemMirrorTest extends Specification {
         mirror.getContent(file.path) == null
     }
 
+    def "keeps state about unrelated locations when task outputs are generated in known locations"() {
+        def outputDir = tmpDir.file("build/classes")
+        def ancestor = tmpDir.file("build")
+        def descendant = outputDir.file("Foo.class")
+        def unrelated = tmpDir.file("build/resources")
+        def sibling = tmpDir.file("build/classes2")
+        def paths = [outputDir, ancestor, descendant, unrelated, sibling]*.path
+        def snapshots = paths.collectEntries { [it, Stub(Snapshot)] }
+
+        given:
+        paths.each { mirror.putContent(it, snapshots[it]) }
+
+        when:
+        mirror.beforeTaskOutputChanged([outputDir.path])
+
+        then:
+        mirror.getContent(outputDir.path) == null
+        mirror.getContent(ancestor.path) == null
+        mirror.getContent(descendant.path) == null
+        mirror.getContent(unrelated.path) == snapshots[unrelated.path]
+        mirror.getContent(sibling.path) == snapshots[sibling.path]
+    }
+
     def "keeps state about a file until end of build"() {
         def file = tmpDir.file("a")
         def fileSnapshot = Stub(FileSnapshot)
@@ -16,6 +16,9 @@
 
 package org.gradle.api.internal.changedetection.state
 
+import com.google.common.collect.ImmutableList
+import com.google.common.collect.ImmutableMap
+import com.google.common.collect.ImmutableSet
 import org.gradle.api.Named
 import org.gradle.api.internal.model.NamedObjectInstantiator
 import org.gradle.api.provider.Provider
@@ -728,6 +731,51 @@ class ValueSnapshotterTest extends Specification {
         snapshotter.snapshot("other", snapshot) == snapshotter.snapshot("other")
     }
 
+    def "reuses snapshot of deeply immutable collection"() {
+        def list = ImmutableList.of("a", "b")
+        def map = ImmutableMap.of("a", ImmutableSet.of(1, 2), "b", ImmutableSet.of(3))
+
+        expect:
+        def listSnapshot = snapshotter.snapshot(list)
+        snapshotter.snapshot(list).is(listSnapshot)
+        snapshotter.snapshot(ImmutableList.of("a", "b")) == listSnapshot
+
+        def mapSnapshot = snapshotter.snapshot(map)
+        snapshotter.snapshot(map).is(mapSnapshot)
+        snapshotter.snapshot(map, mapSnapshot).is(mapSnapshot)
+
+        snapshotter.snapshottedCollectionCount == 5
+        snapshotter.reusedCollectionSnapshotCount == 4
+    }
+
+    def "does not reuse snapshot of immutable collection with mutable elements"() {
+        def element = ["a"]
+        def list = ImmutableList.of(element)
+
+        expect:
+        def snapshot = snapshotter.snapshot(list)
+        element.add("b")
+        snapshotter.snapshot(list) != snapshot
+        snapshotter.reusedCollectionSnapshotCount == 0
+    }
+
+    def "resets statistics at the start of each build"() {
+        def list = ImmutableList.of("a")
+        snapshotter.snapshot(list)
+        snapshotter.snapshot(list)
+
+        when:
+        snapshotter.afterStart()
+
+        then:
+        snapshotter.snapshottedCollectionCount == 0
+        snapshotter.reusedCollectionSnapshotCount == 0
+
+        and:
+        snapshotter.snapshot(list)
+        snapshotter.reusedCollectionSnapshotCount == 1
+    }
+
     private void areTheSame(ValueSnapshot snapshot, Object value) {
         assert snapshotter.snapshot(value, snapshot).is(snapshot)
         assert snapshotter.snapshot(value, snapshot) == snapshotter.snapshot(value)
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state
+
+import org.gradle.api.file.RelativePath
+import org.gradle.internal.hash.HashCode
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+import java.util.zip.CRC32
+import java.util.zip.ZipEntry
+import java.util.zip.ZipException
+import java.util.zip.ZipOutputStream
+
+class ZipTreeTest extends Specification {
+    @Rule TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider()
+    def visitor = Mock(ResourceWithContentsVisitor)
+
+    def "visits file entries with their contents"() {
+        def contents = tmpDir.createDir("contents")
+        contents.file("a.txt") << "a"
+        contents.file("dir/b.txt") << "b"
+        def zip = tmpDir.file("archive.zip")
+        contents.zipTo(zip)
+        def visited = [:]
+
+        when:
+        new ZipTree(snapshot(zip)).visit(visitor)
+
+        then:
+        2 * visitor.visitZipFileEntry(_, _) >> { ZipEntry entry, InputStream input -> visited[entry.name] = input.text }
+        0 * _
+        visited == ["a.txt": "a", "dir/b.txt": "b"]
+    }
+
+    def "entries do not need to be read"() {
+        def contents = tmpDir.createDir("contents")
+        contents.file("a.txt") << "a"
+        contents.file("b.txt") << "b"
+        def zip = tmpDir.file("archive.zip")
+        contents.zipTo(zip)
+        def visited = [:]
+
+        when:
+        new ZipTree(snapshot(zip)).visit(visitor)
+
+        then:
+        1 * visitor.visitZipFileEntry({ it.name == "a.txt" }, _)
+        1 * visitor.visitZipFileEntry({ it.name == "b.txt" }, _) >> { ZipEntry entry, InputStream input -> visited[entry.name] = input.text }
+        0 * _
+        visited == ["b.txt": "b"]
+    }
+
+    def "visits no entries for file which is not a zip"() {
+        def file = tmpDir.file("broken.jar") << "this is clearly not a well formed jar file"
+
+        when:
+        new ZipTree(snapshot(file)).visit(visitor)
+
+        then:
+        0 * _
+    }
+
+    def "visits every entry of an archive with duplicate entry names"() {
+        def zip = tmpDir.file("duplicates.zip")
+        writeStoredZip(zip, ["a.txt": "first", "b.txt": "second"])
+        replaceBytes(zip, "b.txt", "a.txt")
+        def visited = []
+
+        when:
+        new ZipTree(snapshot(zip)).visit(visitor)
+
+        then:
+        2 * visitor.visitZipFileEntry(_, _) >> { ZipEntry entry, InputStream input -> visited << (entry.name + ":" + input.text) }
+        0 * _
+        visited == ["a.txt:first", "a.txt:second"]
+    }
+
+    def "fails when the contents of an entry do not match its CRC"() {
+        def zip = tmpDir.file("corrupt.zip")
+        writeStoredZip(zip, ["a.txt": "hello"])
+        replaceBytes(zip, "hello", "jello")
+
+        when:
+        new ZipTree(snapshot(zip)).visit(visitor)
+
+        then:
+        1 * visitor.visitZipFileEntry(_, _) >> { ZipEntry entry, InputStream input -> input.text }
+        def e = thrown(ZipException)
+        e.message.startsWith("invalid entry CRC")
+    }
+
+    private static void writeStoredZip(File zip, Map<String, String> entries) {
+        def zipOutput = new ZipOutputStream(new FileOutputStream(zip))
+        try {
+            entries.each { name, text ->
+                def bytes = text.getBytes("UTF-8")
+                def crc = new CRC32()
+                crc.update(bytes)
+                def entry = new ZipEntry(name)
+                entry.method = ZipEntry.STORED
+                entry.size = bytes.length
+                entry.compressedSize = bytes.length
+                entry.crc = crc.value
+                zipOutput.putNextEntry(entry)
+                zipOutput.write(bytes)
+                zipOutput.closeEntry()
+            }
+        } finally {
+            zipOutput.close()
+        }
+    }
+
+    private static void replaceBytes(File file, String original, String replacement) {
+        file.bytes = new String(file.bytes, "ISO-8859-1").replace(original, replacement).getBytes("ISO-8859-1")
+    }
+
+    private static RegularFileSnapshot snapshot(File file) {
+        new RegularFileSnapshot(file.absolutePath, RelativePath.parse(true, file.name), true, new FileHashSnapshot(HashCode.fromInt(123)))
+    }
+}
@@ -109,7 +109,7 @@ class Jdk7DirectoryWalkerTest extends Specification {
         !visited.contains(doesNotExist.absolutePath)
 
         where:
-        walkerInstance << [new DefaultDirectoryWalker(), new Jdk7DirectoryWalker(), new ReproducibleDirectoryWalker()]
+        walkerInstance << [new DefaultDirectoryWalker(TestFiles.fileSystem()), new Jdk7DirectoryWalker(TestFiles.fileSystem()), new ReproducibleDirectoryWalker(TestFiles.fileSystem())]
     }
 
     def "both DirectoryWalker implementations return same set of files and attributes"() {
@@ -118,8 +118,8 @@ class Jdk7DirectoryWalkerTest extends Specification {
         generateFilesAndSubDirectories(rootDir, 10, 5, 3, 1, new AtomicInteger(0))
 
         when:
-        def visitedWithJdk7Walker = walkFiles(rootDir, new Jdk7DirectoryWalker())
-        def visitedWithDefaultWalker = walkFiles(rootDir, new DefaultDirectoryWalker())
+        def visitedWithJdk7Walker = walkFiles(rootDir, new Jdk7DirectoryWalker(TestFiles.fileSystem()))
+        def visitedWithDefaultWalker = walkFiles(rootDir, new DefaultDirectoryWalker(TestFiles.fileSystem()))
 
         then:
         visitedWithDefaultWalker.size() == 340
@@ -191,7 +191,7 @@ class Jdk7DirectoryWalkerTest extends Specification {
         link.delete()
 
         where:
-        walkerInstance << [new DefaultDirectoryWalker(), new Jdk7DirectoryWalker(), new ReproducibleDirectoryWalker()]
+        walkerInstance << [new DefaultDirectoryWalker(TestFiles.fileSystem()), new Jdk7DirectoryWalker(TestFiles.fileSystem()), new ReproducibleDirectoryWalker(TestFiles.fileSystem())]
     }
 
     @Requires(TestPrecondition.SYMLINKS)
@@ -222,7 +222,7 @@ class Jdk7DirectoryWalkerTest extends Specification {
         link.delete()
 
         where:
-        walkerInstance << [new DefaultDirectoryWalker(), new Jdk7DirectoryWalker(), new ReproducibleDirectoryWalker()]
+        walkerInstance << [new DefaultDirectoryWalker(TestFiles.fileSystem()), new Jdk7DirectoryWalker(TestFiles.fileSystem()), new ReproducibleDirectoryWalker(TestFiles.fileSystem())]
     }
 
     @Requires(TestPrecondition.SYMLINKS)
@@ -251,7 +251,7 @@ class Jdk7DirectoryWalkerTest extends Specification {
         link.delete()
 
         where:
-        walkerInstance << [new DefaultDirectoryWalker(), new Jdk7DirectoryWalker(), new ReproducibleDirectoryWalker()]
+        walkerInstance << [new DefaultDirectoryWalker(TestFiles.fileSystem()), new Jdk7DirectoryWalker(TestFiles.fileSystem()), new ReproducibleDirectoryWalker(TestFiles.fileSystem())]
     }
 
     @Issue("GRADLE-3400")
@@ -285,7 +285,7 @@ class Jdk7DirectoryWalkerTest extends Specification {
         link.delete()
 
         where:
-        walkerInstance << [new DefaultDirectoryWalker(), new Jdk7DirectoryWalker(), new ReproducibleDirectoryWalker()]
+        walkerInstance << [new DefaultDirectoryWalker(TestFiles.fileSystem()), new Jdk7DirectoryWalker(TestFiles.fileSystem()), new ReproducibleDirectoryWalker(TestFiles.fileSystem())]
     }
 
     def "file walker sees a snapshot of file metadata even if files are deleted after walking has started"() {
@@ -298,7 +298,7 @@ class Jdk7DirectoryWalkerTest extends Specification {
         file2 << '12345'
         def file3 = rootDir.createFile("a/b/3.txt")
         file3 << '12345'
-        def walkerInstance = new Jdk7DirectoryWalker()
+        def walkerInstance = new Jdk7DirectoryWalker(TestFiles.fileSystem())
         def fileTree = new DirectoryFileTree(rootDir, new PatternSet(), { walkerInstance } as Factory, TestFiles.fileSystem(), false)
         def visitedFiles = []
         def visitedDirectories = []
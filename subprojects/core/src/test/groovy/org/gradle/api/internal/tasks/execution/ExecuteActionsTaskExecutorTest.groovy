@@ -18,6 +18,7 @@ package org.gradle.api.internal.tasks.execution
 import org.gradle.api.execution.TaskActionListener
 import org.gradle.api.internal.TaskInternal
 import org.gradle.api.internal.changedetection.TaskArtifactState
+import org.gradle.api.internal.file.collections.ImmutableFileCollection
 import org.gradle.api.internal.project.ProjectInternal
 import org.gradle.api.internal.tasks.ContextAwareTaskAction
 import org.gradle.api.internal.tasks.OriginTaskExecutionMetadata
@@ -55,6 +56,7 @@ class ExecuteActionsTaskExecutorTest extends Specification {
     def internalListener = Mock(TaskOutputChangesListener)
     def buildOperationExecutor = Mock(BuildOperationExecutor)
     def asyncWorkTracker = Mock(AsyncWorkTracker)
+    def taskProperties = Stub(TaskProperties)
     final buildInvocationId = UniqueId.generate()
     final taskExecutionTime = 1L
     final originExecutionMetadata = new OriginTaskExecutionMetadata(buildInvocationId, taskExecutionTime)
@@ -68,6 +70,7 @@ class ExecuteActionsTaskExecutorTest extends Specification {
         project.getBuildScriptSource() >> scriptSource
         task.getStandardOutputCapture() >> standardOutputCapture
         executionContext.taskArtifactState >> taskArtifactState
+        executionContext.taskProperties >> taskProperties
     }
 
     void noMoreInteractions() {
@@ -106,6 +109,26 @@ class ExecuteActionsTaskExecutorTest extends Specification {
         state.actionable
     }
 
+    def notifiesListenerAboutChangingOutputLocationsWhenTaskHasDeclaredOutputs() {
+        def outputDir = new File("build/classes").absoluteFile
+        def localState = new File("build/tmp").absoluteFile
+
+        given:
+        task.getTaskActions() >> [action1]
+        task.hasTaskActions() >> true
+        taskProperties.hasDeclaredOutputs() >> true
+        taskProperties.outputFiles >> ImmutableFileCollection.of(outputDir)
+        taskProperties.localStateFiles >> ImmutableFileCollection.of(localState)
+        taskProperties.destroyableFiles >> ImmutableFileCollection.of()
+
+        when:
+        executer.execute(task, state, executionContext)
+
+        then:
+        1 * internalListener.beforeTaskOutputChanged([outputDir.path, localState.path])
+        0 * internalListener.beforeTaskOutputChanged()
+    }
+
     def executesEachActionInOrder() {
         given:
         task.getTaskActions() >> [action1, action2]
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares, sorts and selects from the kind of version lists returned when listing versions of a long lived module.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class VersionComparatorBenchmark {
+    private static final String[] QUALIFIERS = {"", "-SNAPSHOT", "-rc1", "-RC2", "-beta-3", ".Final", "-dev", "-RELEASE"};
+
+    private final VersionParser versionParser = new VersionParser();
+    private final Comparator<Version> comparator = new DefaultVersionComparator().asVersionComparator();
+    private VersionSelector rangeSelector;
+    private Version[] candidates;
+    private List<Version> shuffled;
+    private int i;
+
+    @Setup(Level.Iteration)
+    public void createCandidates() {
+        List<Version> versions = new ArrayList<Version>();
+        for (int major = 1; major <= 5; major++) {
+            for (int minor = 0; minor < 10; minor++) {
+                for (int patch = 0; patch < 5; patch++) {
+                    for (String qualifier : QUALIFIERS) {
+                        versions.add(versionParser.transform(major + "." + minor + "." + patch + qualifier));
+                    }
+                }
+            }
+        }
+        candidates = versions.toArray(new Version[0]);
+        Collections.shuffle(versions);
+        shuffled = versions;
+        rangeSelector = new VersionRangeSelector("[2.1,4.5-rc1)", comparator, versionParser);
+    }
+
+    @Benchmark
+    public void compareQualified(Blackhole bh) {
+        int next = nextIndex();
+        bh.consume(comparator.compare(candidates[next], candidates[(next * 7) % candidates.length]));
+    }
+
+    @Benchmark
+    public void sortCandidates(Blackhole bh) {
+        Version[] versions = shuffled.toArray(new Version[0]);
+        Arrays.sort(versions, comparator);
+        bh.consume(versions);
+    }
+
+    @Benchmark
+    public void acceptRange(Blackhole bh) {
+        bh.consume(rangeSelector.accept(candidates[nextIndex()]));
+    }
+
+    @Benchmark
+    public void parseCached(Blackhole bh) {
+        bh.consume(versionParser.transform(candidates[nextIndex()].getSource()));
+    }
+
+    // Wraps around at the end of the candidates, so that the index never overflows however many invocations a run makes
+    private int nextIndex() {
+        i = (i + 1) % candidates.length;
+        return i;
+    }
+}
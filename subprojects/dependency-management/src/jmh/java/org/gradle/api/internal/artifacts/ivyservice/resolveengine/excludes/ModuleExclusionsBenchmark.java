@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.resolveengine.excludes;
+
+import com.google.common.collect.ImmutableList;
+import org.gradle.api.artifacts.ModuleIdentifier;
+import org.gradle.api.internal.artifacts.DefaultImmutableModuleIdentifierFactory;
+import org.gradle.api.internal.artifacts.DefaultModuleIdentifier;
+import org.gradle.internal.component.external.descriptor.DefaultExclude;
+import org.gradle.internal.component.model.ExcludeMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Evaluates and merges exclusions built from the kind of exclude rules found in Hadoop and Spark dependency trees.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ModuleExclusionsBenchmark {
+    private static final String[] EXCLUDED_GROUPS = {
+        "org.slf4j", "log4j", "javax.servlet", "javax.servlet.jsp", "org.mortbay.jetty", "com.sun.jersey", "tomcat", "org.apache.avro", "io.netty", "org.codehaus.jackson"
+    };
+    private static final String[] EXCLUDED_MODULES = {
+        "servlet-api", "jsp-api", "slf4j-log4j12", "jersey-core", "jersey-server", "jetty", "jetty-util", "commons-logging", "jasper-compiler", "jasper-runtime", "guava", "netty"
+    };
+    private static final String[][] EXCLUDED_MODULE_IDS = {
+        {"org.apache.hadoop", "hadoop-yarn-server-web-proxy"}, {"org.apache.hadoop", "hadoop-mapreduce-client-core"}, {"com.google.protobuf", "protobuf-java"},
+        {"org.apache.zookeeper", "zookeeper"}, {"org.apache.curator", "curator-recipes"}, {"org.apache.spark", "spark-tags_2.11"}
+    };
+    private static final String[][] CANDIDATES = {
+        {"org.apache.hadoop", "hadoop-common"}, {"org.apache.spark", "spark-core_2.11"}, {"com.google.guava", "guava"}, {"org.slf4j", "slf4j-api"},
+        {"io.netty", "netty-all"}, {"org.apache.zookeeper", "zookeeper"}, {"commons-logging", "commons-logging"}, {"org.scala-lang", "scala-library"},
+        {"com.fasterxml.jackson.core", "jackson-databind"}, {"org.apache.commons", "commons-lang3"}, {"javax.servlet", "javax.servlet-api"}, {"org.xerial.snappy", "snappy-java"}
+    };
+
+    private ModuleExclusions moduleExclusions;
+    private ModuleExclusion hadoopExclusions;
+    private ModuleExclusion sparkExclusions;
+    private ModuleIdentifier[] candidates;
+    private int i;
+
+    @Setup(Level.Iteration)
+    public void createExclusions() {
+        moduleExclusions = new ModuleExclusions(new DefaultImmutableModuleIdentifierFactory());
+        ImmutableList.Builder<ExcludeMetadata> hadoop = ImmutableList.builder();
+        ImmutableList.Builder<ExcludeMetadata> spark = ImmutableList.builder();
+        for (int j = 0; j < EXCLUDED_GROUPS.length; j++) {
+            (j % 2 == 0 ? hadoop : spark).add(exclude(EXCLUDED_GROUPS[j], "*"));
+        }
+        for (String module : EXCLUDED_MODULES) {
+            hadoop.add(exclude("*", module));
+            spark.add(exclude("*", module));
+        }
+        for (String[] id : EXCLUDED_MODULE_IDS) {
+            hadoop.add(exclude(id[0], id[1]));
+        }
+        hadoopExclusions = moduleExclusions.excludeAny(hadoop.build());
+        sparkExclusions = moduleExclusions.excludeAny(spark.build());
+        candidates = new ModuleIdentifier[CANDIDATES.length];
+        for (int j = 0; j < CANDIDATES.length; j++) {
+            candidates[j] = DefaultModuleIdentifier.newId(CANDIDATES[j][0], CANDIDATES[j][1]);
+        }
+    }
+
+    @Benchmark
+    public void excludeModule(Blackhole bh) {
+        bh.consume(hadoopExclusions.excludeModule(candidates[nextIndex()]));
+    }
+
+    @Benchmark
+    public void union(Blackhole bh) {
+        bh.consume(moduleExclusions.union(hadoopExclusions, sparkExclusions));
+    }
+
+    @Benchmark
+    public void intersect(Blackhole bh) {
+        bh.consume(moduleExclusions.intersect(hadoopExclusions, sparkExclusions));
+    }
+
+    private int nextIndex() {
+        i = (i + 1) % candidates.length;
+        return i;
+    }
+
+    private static ExcludeMetadata exclude(String group, String module) {
+        return new DefaultExclude(DefaultModuleIdentifier.newId(group, module));
+    }
+}
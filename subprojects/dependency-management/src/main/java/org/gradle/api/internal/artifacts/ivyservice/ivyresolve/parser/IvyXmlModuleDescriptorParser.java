@@ -1294,13 +1294,24 @@ public class IvyXmlModuleDescriptorParser extends AbstractModuleDescriptorParser
 
         static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
 
+        /**
+         * Non-validating parsers are expensive to locate and create, so an idle one is kept for each thread. A parser is removed while in use,
+         * so that parsing an extended descriptor from within a parse uses a separate parser.
+         */
+        private static final ThreadLocal<SAXParser> IDLE_PARSER = new ThreadLocal<SAXParser>();
+
         private static SAXParser newSAXParser(URL schema, InputStream schemaStream)
                 throws ParserConfigurationException, SAXException {
             if (schema == null) {
-                SAXParserFactory parserFactory = SAXParserFactory.newInstance();
-                parserFactory.setValidating(false);
-                parserFactory.setNamespaceAware(true);
-                SAXParser parser = parserFactory.newSAXParser();
+                SAXParser parser = IDLE_PARSER.get();
+                if (parser != null) {
+                    IDLE_PARSER.remove();
+                } else {
+                    SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+                    parserFactory.setValidating(false);
+                    parserFactory.setNamespaceAware(true);
+                    parser = parserFactory.newSAXParser();
+                }
                 parser.getXMLReader().setFeature(XML_NAMESPACE_PREFIXES, true);
                 return parser;
             } else {
@@ -1349,6 +1360,11 @@ public class IvyXmlModuleDescriptorParser extends AbstractModuleDescriptorParser
                 try {
                     SAXParser parser = newSAXParser(schema, schemaStream);
                     parser.parse(xmlStream, handler);
+                    if (schema == null) {
+                        // Reset before keeping the parser, so that it does not retain the handler
+                        parser.reset();
+                        IDLE_PARSER.set(parser);
+                    }
                 } finally {
                     Thread.currentThread().setContextClassLoader(original);
                 }
@@ -108,6 +108,9 @@ public class PomReader implements PomParent {
         }
     }
 
+    // Keeps a document builder for reuse by the next POM parsed on the same thread, as creating one is relatively expensive
+    private static final ThreadLocal<DocumentBuilder> IDLE_DOCUMENT_BUILDER = new ThreadLocal<DocumentBuilder>();
+
     private static final EntityResolver M2_ENTITY_RESOLVER = new EntityResolver() {
         public InputSource resolveEntity(String publicId, String systemId)
             throws SAXException, IOException {
@@ -234,15 +237,21 @@ public class PomReader implements PomParent {
     }
 
     private static DocumentBuilder getDocBuilder(EntityResolver entityResolver) {
-        try {
-            DocumentBuilder docBuilder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
-            if (entityResolver != null) {
-                docBuilder.setEntityResolver(entityResolver);
+        DocumentBuilder docBuilder = IDLE_DOCUMENT_BUILDER.get();
+        if (docBuilder != null) {
+            IDLE_DOCUMENT_BUILDER.remove();
+            docBuilder.reset();
+        } else {
+            try {
+                docBuilder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw UncheckedException.throwAsUncheckedException(e);
             }
-            return docBuilder;
-        } catch (ParserConfigurationException e) {
-            throw UncheckedException.throwAsUncheckedException(e);
         }
+        if (entityResolver != null) {
+            docBuilder.setEntityResolver(entityResolver);
+        }
+        return docBuilder;
     }
 
     private static Document parseToDom(InputStream stream, String systemId) throws IOException, SAXException {
@@ -252,7 +261,10 @@ public class PomReader implements PomParent {
         Thread.currentThread().setContextClassLoader(ClassLoaderUtils.getPlatformClassLoader());
         try {
             InputStream dtdStream = new AddDTDFilterInputStream(stream);
-            return getDocBuilder(M2_ENTITY_RESOLVER).parse(dtdStream, systemId);
+            DocumentBuilder docBuilder = getDocBuilder(M2_ENTITY_RESOLVER);
+            Document document = docBuilder.parse(dtdStream, systemId);
+            IDLE_DOCUMENT_BUILDER.set(docBuilder);
+            return document;
         } finally {
             Thread.currentThread().setContextClassLoader(original);
         }
@@ -16,11 +16,7 @@
 
 package org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy;
 
-import com.google.common.collect.ImmutableMap;
-
 import java.util.Comparator;
-import java.util.Locale;
-import java.util.Map;
 
 /**
  * Allows for comparison of Version instances.
@@ -29,8 +25,8 @@ import java.util.Map;
  * One example where this comparator is inappropriate is if versions should be retained in a TreeMap/TreeSet.
  */
 class StaticVersionComparator implements Comparator<Version> {
-    private static final Map<String, Integer> SPECIAL_MEANINGS =
-            ImmutableMap.of("dev", -1, "rc", 1, "release", 2, "final", 3);
+    private static final String[] SPECIAL_MEANINGS = {"dev", "rc", "release", "final"};
+    private static final int[] SPECIAL_MEANING_VALUES = {-1, 1, 2, 3};
 
     /**
      * Compares 2 versions. Algorithm is inspired by PHP version_compare one.
@@ -69,13 +65,12 @@ class StaticVersionComparator implements Comparator<Version> {
                 return numericPart1.compareTo(numericPart2);
             }
             // both are strings, we compare them taking into account special meaning
-            Integer sm1 = SPECIAL_MEANINGS.get(part1.toLowerCase(Locale.US));
-            Integer sm2 = SPECIAL_MEANINGS.get(part2.toLowerCase(Locale.US));
-            if (sm1 != null) {
-                sm2 = sm2 == null ? 0 : sm2;
+            int sm1 = specialMeaning(part1);
+            int sm2 = specialMeaning(part2);
+            if (sm1 != 0) {
                 return sm1 - sm2;
             }
-            if (sm2 != null) {
+            if (sm2 != 0) {
                 return -sm2;
             }
             return part1.compareTo(part2);
@@ -89,4 +84,18 @@ class StaticVersionComparator implements Comparator<Version> {
 
         return 0;
     }
+
+    /**
+     * Looks up the special meaning of a part without lower-casing it, as this is called for every comparison of qualified versions.
+     *
+     * @return the special meaning of the part, or 0 if it has none
+     */
+    private static int specialMeaning(String part) {
+        for (int i = 0; i < SPECIAL_MEANINGS.length; i++) {
+            if (SPECIAL_MEANINGS[i].equalsIgnoreCase(part)) {
+                return SPECIAL_MEANING_VALUES[i];
+            }
+        }
+        return 0;
+    }
 }
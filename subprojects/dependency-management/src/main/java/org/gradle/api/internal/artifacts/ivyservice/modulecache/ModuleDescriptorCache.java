@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.modulecache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.gradle.internal.component.external.model.ModuleComponentResolveMetadata;
+import org.gradle.internal.component.external.model.MutableModuleComponentResolveMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retains the module descriptors decoded from the {@link ModuleMetadataStore}, so that the builds of a build session, including the included builds of a composite,
+ * do not each read and decode the same descriptor files. An entry is only reused while its descriptor file has the same length and modification time.
+ */
+public class ModuleDescriptorCache implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModuleDescriptorCache.class);
+    private static final int CACHE_SIZE = Integer.getInteger("org.gradle.api.internal.artifacts.ivyservice.modulecache.descriptorCacheSize", 5000);
+
+    private final Cache<File, CachedDescriptor> cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Returns a mutable copy of the descriptor previously decoded from the given file, or null when the file has not been decoded or has changed since.
+     */
+    @Nullable
+    public MutableModuleComponentResolveMetadata get(File descriptorFile, long length, long lastModified) {
+        CachedDescriptor cached = cache.getIfPresent(descriptorFile);
+        if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+            hits.incrementAndGet();
+            return cached.metadata.asMutable();
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(File descriptorFile, long length, long lastModified, ModuleComponentResolveMetadata metadata) {
+        cache.put(descriptorFile, new CachedDescriptor(length, lastModified, metadata));
+    }
+
+    public void remove(File descriptorFile) {
+        cache.invalidate(descriptorFile);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public void close() {
+        LOGGER.debug("Module descriptor cache closed. Hits: {}, misses: {}", hits.get(), misses.get());
+        cache.invalidateAll();
+    }
+
+    private static class CachedDescriptor {
+        private final long length;
+        private final long lastModified;
+        private final ModuleComponentResolveMetadata metadata;
+
+        CachedDescriptor(long length, long lastModified, ModuleComponentResolveMetadata metadata) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.metadata = metadata;
+        }
+    }
+}
@@ -37,22 +37,33 @@ public class ModuleMetadataStore {
     private final ModuleMetadataSerializer moduleMetadataSerializer;
     private final ImmutableModuleIdentifierFactory moduleIdentifierFactory;
     private final Interner<String> stringInterner;
+    private final ModuleDescriptorCache descriptorCache;
 
-    public ModuleMetadataStore(PathKeyFileStore metaDataStore, ModuleMetadataSerializer moduleMetadataSerializer, ImmutableModuleIdentifierFactory moduleIdentifierFactory, Interner<String> stringInterner) {
+    public ModuleMetadataStore(PathKeyFileStore metaDataStore, ModuleMetadataSerializer moduleMetadataSerializer, ImmutableModuleIdentifierFactory moduleIdentifierFactory, Interner<String> stringInterner, ModuleDescriptorCache descriptorCache) {
         this.metaDataStore = metaDataStore;
         this.moduleMetadataSerializer = moduleMetadataSerializer;
         this.moduleIdentifierFactory = moduleIdentifierFactory;
         this.stringInterner = stringInterner;
+        this.descriptorCache = descriptorCache;
     }
 
     public MutableModuleComponentResolveMetadata getModuleDescriptor(ModuleComponentAtRepositoryKey component) {
         String filePath = getFilePath(component);
         final LocallyAvailableResource resource = metaDataStore.get(filePath);
         if (resource != null) {
+            File descriptorFile = resource.getFile();
+            long length = descriptorFile.length();
+            long lastModified = descriptorFile.lastModified();
+            MutableModuleComponentResolveMetadata cached = descriptorCache.get(descriptorFile, length, lastModified);
+            if (cached != null) {
+                return cached;
+            }
             try {
-                StringDeduplicatingDecoder decoder = new StringDeduplicatingDecoder(new KryoBackedDecoder(new FileInputStream(resource.getFile())), stringInterner);
+                StringDeduplicatingDecoder decoder = new StringDeduplicatingDecoder(new KryoBackedDecoder(new FileInputStream(descriptorFile)), stringInterner);
                 try {
-                    return moduleMetadataSerializer.read(decoder, moduleIdentifierFactory);
+                    MutableModuleComponentResolveMetadata metadata = moduleMetadataSerializer.read(decoder, moduleIdentifierFactory);
+                    descriptorCache.put(descriptorFile, length, lastModified, metadata.asImmutable());
+                    return metadata;
                 } finally {
                     decoder.close();
                 }
@@ -76,6 +87,9 @@ public class ModuleMetadataStore {
                     }
                 } catch (Exception e) {
                     throw UncheckedException.throwAsUncheckedException(e);
+                } finally {
+                    // The rewritten file may have the same length and modification time as the one that was decoded
+                    descriptorCache.remove(moduleDescriptorFile);
                 }
             }
         });
@@ -31,10 +31,15 @@ import org.gradle.cache.PersistentIndexedCacheParameters;
 import org.gradle.cache.internal.ProducerGuard;
 import org.gradle.caching.internal.DefaultBuildCacheHasher;
 import org.gradle.initialization.RootBuildLifecycleListener;
+import org.gradle.internal.Describables;
 import org.gradle.internal.Factory;
 import org.gradle.internal.UncheckedException;
 import org.gradle.internal.concurrent.Stoppable;
 import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.operations.BuildOperationContext;
+import org.gradle.internal.operations.BuildOperationDescriptor;
+import org.gradle.internal.operations.BuildOperationExecutor;
+import org.gradle.internal.operations.CallableBuildOperation;
 import org.gradle.internal.resource.local.DefaultPathKeyFileStore;
 import org.gradle.internal.resource.local.FileStore;
 import org.gradle.internal.resource.local.FileStoreAddActionException;
@@ -59,9 +64,11 @@ public class DefaultTransformedFileCache implements TransformedFileCache, Stoppa
     private final ProducerGuard<CacheKey> producing = ProducerGuard.adaptive();
     private final Map<CacheKey, List<File>> resultHashToResult = new ConcurrentHashMap<CacheKey, List<File>>();
     private final FileSystemSnapshotter fileSystemSnapshotter;
+    private final BuildOperationExecutor buildOperationExecutor;
 
-    public DefaultTransformedFileCache(ArtifactCacheMetadata artifactCacheMetadata, CacheRepository cacheRepository, InMemoryCacheDecoratorFactory cacheDecoratorFactory, FileSystemSnapshotter fileSystemSnapshotter) {
+    public DefaultTransformedFileCache(ArtifactCacheMetadata artifactCacheMetadata, CacheRepository cacheRepository, InMemoryCacheDecoratorFactory cacheDecoratorFactory, FileSystemSnapshotter fileSystemSnapshotter, BuildOperationExecutor buildOperationExecutor) {
         this.fileSystemSnapshotter = fileSystemSnapshotter;
+        this.buildOperationExecutor = buildOperationExecutor;
         File transformsStoreDirectory = artifactCacheMetadata.getTransformsStoreDirectory();
         File filesOutputDirectory = new File(transformsStoreDirectory, TRANSFORMS_STORE.getKey());
         fileStore = new DefaultPathKeyFileStore(filesOutputDirectory);
@@ -138,7 +145,7 @@ public class DefaultTransformedFileCache implements TransformedFileCache, Stoppa
                         }
 
                         String key = inputFile.getName() + "/" + persistentCacheKey;
-                        TransformAction action = new TransformAction(transformer, inputFile);
+                        TransformAction action = new TransformAction(transformer, inputFile, buildOperationExecutor);
                         try {
                             fileStore.add(key, action);
                         } catch (FileStoreAddActionException e) {
@@ -208,20 +215,35 @@ public class DefaultTransformedFileCache implements TransformedFileCache, Stoppa
         }
     }
 
+    /**
+     * Runs the transformer for a cache miss. This is a separate build operation, so that the time spent actually transforming a file can be told apart from cache lookups.
+     */
     private static class TransformAction implements Action<File> {
         private final BiFunction<List<File>, File, File> transformer;
         private final File inputFile;
+        private final BuildOperationExecutor buildOperationExecutor;
         private ImmutableList<File> result;
 
-        TransformAction(BiFunction<List<File>, File, File> transformer, File inputFile) {
+        TransformAction(BiFunction<List<File>, File, File> transformer, File inputFile, BuildOperationExecutor buildOperationExecutor) {
             this.transformer = transformer;
             this.inputFile = inputFile;
+            this.buildOperationExecutor = buildOperationExecutor;
         }
 
         @Override
-        public void execute(File outputDir) {
+        public void execute(final File outputDir) {
             outputDir.mkdirs();
-            result = ImmutableList.copyOf(transformer.apply(inputFile, outputDir));
+            result = buildOperationExecutor.call(new CallableBuildOperation<ImmutableList<File>>() {
+                @Override
+                public ImmutableList<File> call(BuildOperationContext context) {
+                    return ImmutableList.copyOf(transformer.apply(inputFile, outputDir));
+                }
+
+                @Override
+                public BuildOperationDescriptor.Builder description() {
+                    return BuildOperationDescriptor.displayName(Describables.of("Execute", transformer, "for " + inputFile.getName()).getDisplayName());
+                }
+            });
         }
     }
 }
@@ -25,8 +25,9 @@ import org.gradle.api.internal.artifacts.ivyservice.resolutionstrategy.ExternalR
 import org.gradle.api.internal.file.TemporaryFileProvider;
 import org.gradle.cache.internal.ProducerGuard;
 import org.gradle.internal.Factory;
-import org.gradle.internal.hash.HashUtil;
 import org.gradle.internal.hash.HashValue;
+import org.gradle.internal.hash.Hashing;
+import org.gradle.internal.hash.HashingOutputStream;
 import org.gradle.internal.resource.ExternalResource;
 import org.gradle.internal.resource.ExternalResourceName;
 import org.gradle.internal.resource.ExternalResourceReadResult;
@@ -181,8 +182,7 @@ public class DefaultCacheAwareExternalResourceAccessor implements CacheAwareExte
     private LocallyAvailableExternalResource copyCandidateToCache(ExternalResourceName source, ResourceFileStore fileStore, ExternalResourceMetaData remoteMetaData, HashValue remoteChecksum, LocallyAvailableResource local) throws IOException {
         final File destination = temporaryFileProvider.createTemporaryFile("gradle_download", "bin");
         try {
-            Files.copy(local.getFile(), destination);
-            HashValue localChecksum = HashUtil.createHash(destination, "SHA1");
+            HashValue localChecksum = copyAndHash(local.getFile(), destination);
             if (!localChecksum.equals(remoteChecksum)) {
                 return null;
             }
@@ -192,6 +192,19 @@ public class DefaultCacheAwareExternalResourceAccessor implements CacheAwareExte
         }
     }
 
+    /**
+     * Copies the candidate and calculates the SHA1 of the copied content in a single pass, rather than reading the copy back to hash it.
+     */
+    private static HashValue copyAndHash(File source, File destination) throws IOException {
+        HashingOutputStream outputStream = new HashingOutputStream(Hashing.sha1(), new FileOutputStream(destination));
+        try {
+            Files.copy(source, outputStream);
+        } finally {
+            outputStream.close();
+        }
+        return new HashValue(outputStream.hash().toByteArray());
+    }
+
     private LocallyAvailableExternalResource copyToCache(final ExternalResourceName source, final ResourceFileStore fileStore, final ExternalResource resource) {
         // Download to temporary location
         DownloadAction downloadAction = new DownloadAction(source);
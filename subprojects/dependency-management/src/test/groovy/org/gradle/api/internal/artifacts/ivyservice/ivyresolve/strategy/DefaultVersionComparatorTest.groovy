@@ -115,6 +115,8 @@ class DefaultVersionComparatorTest extends Specification {
         "1.0-release" | "1.0-final"
         "1.0.0.RC1"   | "1.0.0.RC2"
         "1.0.0.RC2"   | "1.0.0.RELEASE"
+        "1.0-Dev-1"   | "1.0-rc-1"
+        "1.0-RC-1"    | "1.0-Final"
     }
 
     def "compares identical versions equal"() {
@@ -40,7 +40,8 @@ class ModuleMetadataStoreTest extends Specification {
     }
     ModuleComponentIdentifier moduleComponentIdentifier = DefaultModuleComponentIdentifier.newId("org.test", "testArtifact", "1.0")
     ModuleMetadataSerializer serializer = Mock()
-    ModuleMetadataStore store = new ModuleMetadataStore(pathKeyFileStore, serializer, moduleIdentifierFactory, SimpleMapInterner.notThreadSafe())
+    ModuleDescriptorCache descriptorCache = new ModuleDescriptorCache()
+    ModuleMetadataStore store = new ModuleMetadataStore(pathKeyFileStore, serializer, moduleIdentifierFactory, SimpleMapInterner.notThreadSafe(), descriptorCache)
     private final mavenMetadataFactory = new MavenMutableModuleMetadataFactory(moduleIdentifierFactory, TestUtil.attributesFactory(), TestUtil.objectInstantiator(), TestUtil.featurePreviews())
 
     def "getModuleDescriptorFile returns null for not cached descriptors"() {
@@ -70,4 +71,60 @@ class ModuleMetadataStoreTest extends Specification {
         };
         1 * serializer.write(_, descriptor)
     }
+
+    def "reuses decoded descriptor while descriptor file is unchanged"() {
+        setup:
+        File descriptorFile = temporaryFolder.createFile("descriptor.bin")
+        descriptorFile.text = "content"
+        fileStoreEntry.file >> descriptorFile
+        pathKeyFileStore.get("org.test/testArtifact/1.0/repositoryId/descriptor.bin") >> fileStoreEntry
+        def key = new ModuleComponentAtRepositoryKey(repository, moduleComponentIdentifier)
+
+        when:
+        def first = store.getModuleDescriptor(key)
+        def second = store.getModuleDescriptor(key)
+
+        then:
+        1 * serializer.read(_, moduleIdentifierFactory) >> mavenMetadataFactory.create(moduleComponentIdentifier)
+        first.id == moduleComponentIdentifier
+        second.id == moduleComponentIdentifier
+        !second.is(first)
+        descriptorCache.hitCount == 1
+        descriptorCache.missCount == 1
+
+        when:
+        descriptorFile.text = "changed content"
+        store.getModuleDescriptor(key)
+
+        then:
+        1 * serializer.read(_, moduleIdentifierFactory) >> mavenMetadataFactory.create(moduleComponentIdentifier)
+        descriptorCache.missCount == 2
+    }
+
+    def "decodes descriptor again after it has been rewritten"() {
+        setup:
+        File descriptorFile = temporaryFolder.createFile("descriptor.bin")
+        descriptorFile.text = "content"
+        fileStoreEntry.file >> descriptorFile
+        pathKeyFileStore.get("org.test/testArtifact/1.0/repositoryId/descriptor.bin") >> fileStoreEntry
+        pathKeyFileStore.add("org.test/testArtifact/1.0/repositoryId/descriptor.bin", _) >> { path, action ->
+            def lastModified = descriptorFile.lastModified()
+            action.execute(descriptorFile)
+            // same length and modification time as before
+            descriptorFile.text = "content"
+            descriptorFile.lastModified = lastModified
+            fileStoreEntry
+        }
+        def key = new ModuleComponentAtRepositoryKey(repository, moduleComponentIdentifier)
+
+        when:
+        store.getModuleDescriptor(key)
+        store.putModuleDescriptor(key, mavenMetadataFactory.create(moduleComponentIdentifier).asImmutable())
+        store.getModuleDescriptor(key)
+
+        then:
+        2 * serializer.read(_, moduleIdentifierFactory) >> mavenMetadataFactory.create(moduleComponentIdentifier)
+        descriptorCache.hitCount == 0
+        descriptorCache.missCount == 2
+    }
 }
@@ -290,6 +290,19 @@ class DefaultModuleExclusionTest extends Specification {
         !spec.excludeModule(moduleId("regexp", "module2"))
     }
 
+    def "does not accept module that matches any of many group or module name exclude rules"() {
+        def rules = (1..50).collect { excludeGroupRule("group$it") } + (1..50).collect { excludeModuleRule("module$it") } + [excludeArtifactRule("lib", "jar", "jar")]
+        def spec = excludeAny(*rules)
+
+        expect:
+        spec.excludeModule(moduleId("group12", "anything"))
+        spec.excludeModule(moduleId("anything", "module37"))
+        !spec.excludeModule(moduleId("group", "module"))
+        !spec.excludeModule(moduleId("module12", "group37"))
+        spec.excludeArtifact(moduleId("group", "module"), artifactName("lib", "jar", "jar"))
+        !spec.excludeArtifact(moduleId("group", "module"), artifactName("other", "jar", "jar"))
+    }
+
     def "specs with the same set of exclude rules accept the same modules as each other"() {
         def rule1 = excludeRule("org", "module")
         def rule2 = excludeRule("org", "module2")
@@ -47,7 +47,7 @@ public abstract class ExternalResourceMetaDataCompare {
 
         String remoteEtag = remote.getEtag();
         if (localEtag != null && remoteEtag != null) {
-            return localEtag.equals(remoteEtag);
+            return stripWeakIndicator(localEtag).equals(stripWeakIndicator(remoteEtag));
         }
 
         Date remoteLastModified = remote.getLastModified();
@@ -63,4 +63,12 @@ public abstract class ExternalResourceMetaDataCompare {
 
         return localContentLength == remoteContentLength && remoteLastModified.equals(localLastModified);
     }
+
+    /**
+     * Uses the weak comparison function of RFC 7232: some servers weaken the ETag of a GET response when compressing it,
+     * but not the one of the HEAD used to revalidate, which would otherwise cause an unchanged resource to be downloaded again.
+     */
+    private static String stripWeakIndicator(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
 }
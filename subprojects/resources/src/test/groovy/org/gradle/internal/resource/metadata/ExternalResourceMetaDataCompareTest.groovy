@@ -115,6 +115,25 @@ class ExternalResourceMetaDataCompareTest extends Specification {
         unchanged
     }
 
+    @Unroll
+    "weak etag #localEtag matches #remoteEtag"() {
+        given:
+        configureMetadata(local, localEtag, null, -1)
+        configureMetadataForEtagMatch(remote, remoteEtag)
+
+        when:
+        compare(local, remote)
+
+        then:
+        unchanged
+
+        where:
+        localEtag   | remoteEtag
+        'W/"abc"'   | '"abc"'
+        '"abc"'     | 'W/"abc"'
+        'W/"abc"'   | 'W/"abc"'
+    }
+
     def "non matching etags, no mod date, but matching content length does not match"() {
         given:
         configureMetadata(local, "abc", null, 10)
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.tasks.testing.junit.result;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.NullWriter;
+import org.gradle.api.internal.tasks.testing.DefaultTestOutputEvent;
+import org.gradle.api.tasks.testing.TestOutputEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reads the index and the output regions of a synthetic store holding the output of a test run that writes a lot to stdout and stderr.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class TestOutputStoreBenchmark {
+    private static final int CLASSES = 1000;
+    private static final int TESTS_PER_CLASS = 20;
+    private static final int LINE_LENGTH = 1024;
+
+    @Param({"256", "2048"})
+    int outputMegabytes;
+
+    private File resultsDir;
+    private TestOutputStore.Reader reader;
+    private int i;
+
+    @Setup(Level.Trial)
+    public void writeOutput() throws IOException {
+        resultsDir = File.createTempFile("test-output-store-benchmark", "");
+        FileUtils.forceDelete(resultsDir);
+        FileUtils.forceMkdir(resultsDir);
+
+        long linesPerTest = (long) outputMegabytes * 1024 * 1024 / LINE_LENGTH / CLASSES / TESTS_PER_CLASS;
+        TestOutputEvent stdOut = new DefaultTestOutputEvent(TestOutputEvent.Destination.StdOut, line('o'));
+        TestOutputEvent stdErr = new DefaultTestOutputEvent(TestOutputEvent.Destination.StdErr, line('e'));
+        TestOutputStore.Writer writer = new TestOutputStore(resultsDir).writer();
+        try {
+            for (long classId = 1; classId <= CLASSES; classId++) {
+                writer.onOutput(classId, stdOut);
+                for (long testId = 1; testId <= TESTS_PER_CLASS; testId++) {
+                    for (long line = 0; line < linesPerTest; line++) {
+                        writer.onOutput(classId, testId, line % 10 == 0 ? stdErr : stdOut);
+                    }
+                }
+            }
+        } finally {
+            writer.close();
+        }
+        reader = new TestOutputStore(resultsDir).reader();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutput() throws IOException {
+        reader.close();
+        FileUtils.forceDelete(resultsDir);
+    }
+
+    @Benchmark
+    public void readIndex() throws IOException {
+        new TestOutputStore(resultsDir).reader().close();
+    }
+
+    @Benchmark
+    public void readTestOutput() {
+        int next = nextIndex();
+        long classId = next / TESTS_PER_CLASS + 1;
+        long testId = next % TESTS_PER_CLASS + 1;
+        reader.writeTestOutput(classId, testId, TestOutputEvent.Destination.StdOut, NullWriter.NULL_WRITER);
+    }
+
+    @Benchmark
+    public void readClassOutput() {
+        long classId = nextIndex() / TESTS_PER_CLASS + 1;
+        reader.writeAllOutput(classId, TestOutputEvent.Destination.StdErr, NullWriter.NULL_WRITER);
+    }
+
+    private int nextIndex() {
+        i = (i + 1) % (CLASSES * TESTS_PER_CLASS);
+        return i;
+    }
+
+    private static String line(char c) {
+        StringBuilder builder = new StringBuilder(LINE_LENGTH);
+        for (int j = 0; j < LINE_LENGTH - 1; j++) {
+            builder.append(c);
+        }
+        return builder.append('\n').toString();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.tasks.testing.worker;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.gradle.api.internal.tasks.testing.DefaultTestOutputEvent;
+import org.gradle.api.tasks.testing.TestOutputEvent;
+import org.gradle.internal.id.CompositeIdGenerator;
+import org.gradle.internal.serialize.Serializer;
+import org.gradle.internal.serialize.kryo.KryoBackedDecoder;
+import org.gradle.internal.serialize.kryo.KryoBackedEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes and reads the test id and output event pairs that a chatty test sends from the worker to the build process.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TestEventSerializerBenchmark {
+    private static final int EVENTS = 1000;
+
+    private final Serializer<Object> serializer = TestEventSerializer.create().build(Object.class);
+    private CompositeIdGenerator.CompositeId[] ids;
+    private TestOutputEvent[] events;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void createEvents() throws Exception {
+        ids = new CompositeIdGenerator.CompositeId[EVENTS];
+        events = new TestOutputEvent[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            ids[i] = new CompositeIdGenerator.CompositeId(1L, (long) (i / 10));
+            events[i] = new DefaultTestOutputEvent(i % 2 == 0 ? TestOutputEvent.Destination.StdOut : TestOutputEvent.Destination.StdErr, "output line " + i + "\n");
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        KryoBackedEncoder encoder = new KryoBackedEncoder(outputStream);
+        writeEvents(encoder);
+        encoder.flush();
+        serialized = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void writeOutputEvents() throws Exception {
+        KryoBackedEncoder encoder = new KryoBackedEncoder(NullOutputStream.NULL_OUTPUT_STREAM);
+        writeEvents(encoder);
+        encoder.flush();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void readOutputEvents(Blackhole bh) throws Exception {
+        KryoBackedDecoder decoder = new KryoBackedDecoder(new ByteArrayInputStream(serialized));
+        for (int i = 0; i < EVENTS; i++) {
+            bh.consume(serializer.read(decoder));
+            bh.consume(serializer.read(decoder));
+        }
+    }
+
+    private void writeEvents(KryoBackedEncoder encoder) throws Exception {
+        for (int i = 0; i < EVENTS; i++) {
+            serializer.write(encoder, ids[i]);
+            serializer.write(encoder, events[i]);
+        }
+    }
+}
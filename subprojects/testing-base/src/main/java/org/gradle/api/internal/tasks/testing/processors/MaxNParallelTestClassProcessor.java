@@ -17,6 +17,7 @@
 package org.gradle.api.internal.tasks.testing.processors;
 
 import org.gradle.api.internal.tasks.testing.TestClassProcessor;
+import org.gradle.api.internal.tasks.testing.TestClassProcessorStoppedException;
 import org.gradle.api.internal.tasks.testing.TestClassRunInfo;
 import org.gradle.api.internal.tasks.testing.TestResultProcessor;
 import org.gradle.internal.Factory;
@@ -28,15 +29,24 @@ import org.gradle.internal.dispatch.DispatchException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Manages a set of parallel TestClassProcessors. Uses a simple round-robin algorithm to assign test classes to
+ * Manages a set of parallel TestClassProcessors. By default, uses a simple round-robin algorithm to assign test classes to
  * processors.
+ *
+ * <p>When pulling test classes, they are instead put in a queue shared by all processors, and each processor takes the next one from the queue
+ * once it is about to need it. This requires the processors to block in {@link TestClassProcessor#processTestClass(TestClassRunInfo)} while they
+ * hold enough test classes, so that a processor stuck with a long running test class does not hold on to many other test classes. When a processor
+ * throws {@link TestClassProcessorStoppedException}, the remaining test classes are dropped and the failure is rethrown when the processors are stopped.</p>
  */
 public class MaxNParallelTestClassProcessor implements TestClassProcessor {
     private final int maxProcessors;
     private final Factory<TestClassProcessor> factory;
     private final ActorFactory actorFactory;
+    private final boolean pullTestClasses;
+    private final Queue<TestClassRunInfo> pendingTestClasses = new ConcurrentLinkedQueue<TestClassRunInfo>();
     private TestResultProcessor resultProcessor;
     private int pos;
     private List<TestClassProcessor> processors = new ArrayList<TestClassProcessor>();
@@ -46,9 +56,14 @@ public class MaxNParallelTestClassProcessor implements TestClassProcessor {
     private volatile boolean stoppedNow;
 
     public MaxNParallelTestClassProcessor(int maxProcessors, Factory<TestClassProcessor> factory, ActorFactory actorFactory) {
+        this(maxProcessors, factory, actorFactory, false);
+    }
+
+    public MaxNParallelTestClassProcessor(int maxProcessors, Factory<TestClassProcessor> factory, ActorFactory actorFactory, boolean pullTestClasses) {
         this.maxProcessors = maxProcessors;
         this.factory = factory;
         this.actorFactory = actorFactory;
+        this.pullTestClasses = pullTestClasses;
     }
 
     @Override
@@ -64,10 +79,18 @@ public class MaxNParallelTestClassProcessor implements TestClassProcessor {
             return;
         }
 
+        if (pullTestClasses) {
+            // Must be queued before the processTestClass() message is sent, so that the receiving processor always finds a test class in the queue
+            pendingTestClasses.add(testClass);
+        }
+
         TestClassProcessor processor;
         if (processors.size() < maxProcessors) {
             processor = factory.create();
             rawProcessors.add(processor);
+            if (pullTestClasses) {
+                processor = new QueuePollingTestClassProcessor(processor, pendingTestClasses);
+            }
             Actor actor = actorFactory.createActor(processor);
             processor = actor.getProxy(TestClassProcessor.class);
             actors.add(actor);
@@ -92,8 +115,62 @@ public class MaxNParallelTestClassProcessor implements TestClassProcessor {
     @Override
     public void stopNow() {
         stoppedNow = true;
+        pendingTestClasses.clear();
         for (TestClassProcessor processor : rawProcessors) {
             processor.stopNow();
         }
     }
+
+    /**
+     * Ignores the test class it is given, and processes whatever test classes are left in the shared queue instead. As there are as many
+     * processTestClass() messages as test classes, every test class is processed by the first processor that is free to take it.
+     */
+    private static class QueuePollingTestClassProcessor implements TestClassProcessor {
+        private final TestClassProcessor delegate;
+        private final Queue<TestClassRunInfo> pendingTestClasses;
+        private TestClassProcessorStoppedException failure;
+
+        QueuePollingTestClassProcessor(TestClassProcessor delegate, Queue<TestClassRunInfo> pendingTestClasses) {
+            this.delegate = delegate;
+            this.pendingTestClasses = pendingTestClasses;
+        }
+
+        @Override
+        public void startProcessing(TestResultProcessor resultProcessor) {
+            delegate.startProcessing(resultProcessor);
+        }
+
+        @Override
+        public void processTestClass(TestClassRunInfo testClass) {
+            if (failure != null) {
+                return;
+            }
+            TestClassRunInfo next = pendingTestClasses.poll();
+            while (next != null) {
+                try {
+                    delegate.processTestClass(next);
+                } catch (TestClassProcessorStoppedException e) {
+                    // Fail fast: stop handing out test classes to any processor, rather than draining them into a dead worker
+                    failure = e;
+                    pendingTestClasses.clear();
+                    return;
+                }
+                next = pendingTestClasses.poll();
+            }
+        }
+
+        @Override
+        public void stop() {
+            // Stop the delegate first, as it usually has a better explanation of why it stopped, such as the exit value of the worker process
+            delegate.stop();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public void stopNow() {
+            delegate.stopNow();
+        }
+    }
 }
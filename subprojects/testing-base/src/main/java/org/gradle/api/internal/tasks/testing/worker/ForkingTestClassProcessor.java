@@ -21,9 +21,11 @@ import org.gradle.api.internal.DocumentationRegistry;
 import org.gradle.api.internal.classpath.ModuleRegistry;
 import org.gradle.api.internal.tasks.testing.JULRedirector;
 import org.gradle.api.internal.tasks.testing.TestClassProcessor;
+import org.gradle.api.internal.tasks.testing.TestClassProcessorStoppedException;
 import org.gradle.api.internal.tasks.testing.TestClassRunInfo;
 import org.gradle.api.internal.tasks.testing.TestResultProcessor;
 import org.gradle.api.internal.tasks.testing.WorkerTestClassProcessorFactory;
+import org.gradle.internal.dispatch.StreamCompletion;
 import org.gradle.internal.remote.ObjectConnection;
 import org.gradle.internal.work.WorkerLeaseRegistry;
 import org.gradle.process.JavaForkOptions;
@@ -36,10 +38,17 @@ import org.gradle.util.CollectionUtils;
 import java.io.File;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Runs test classes in a forked worker process. When created to pull test classes, {@link #processTestClass(TestClassRunInfo)} blocks while the worker
+ * already holds a test class besides the one it is running, so that the caller only hands over further test classes once the worker is about to need them.
+ */
 public class ForkingTestClassProcessor implements TestClassProcessor {
+    private static final int MAX_QUEUED_TEST_CLASSES = 1;
+
     private final WorkerLeaseRegistry.WorkerLease currentWorkerLease;
     private final WorkerProcessFactory workerFactory;
     private final WorkerTestClassProcessorFactory processorFactory;
@@ -47,15 +56,23 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
     private final Iterable<File> classPath;
     private final Action<WorkerProcessBuilder> buildConfigAction;
     private final ModuleRegistry moduleRegistry;
+    private final boolean pullTestClasses;
     private final Lock lock = new ReentrantLock();
+    private final Condition workerStateChanged = lock.newCondition();
     private RemoteTestClassProcessor remoteProcessor;
     private WorkerProcess workerProcess;
     private TestResultProcessor resultProcessor;
     private WorkerLeaseRegistry.WorkerLeaseCompletion completion;
     private DocumentationRegistry documentationRegistry;
     private boolean stoppedNow;
+    private int testClassesInWorker;
+    private boolean workerStopped;
 
     public ForkingTestClassProcessor(WorkerLeaseRegistry.WorkerLease parentWorkerLease, WorkerProcessFactory workerFactory, WorkerTestClassProcessorFactory processorFactory, JavaForkOptions options, Iterable<File> classPath, Action<WorkerProcessBuilder> buildConfigAction, ModuleRegistry moduleRegistry, DocumentationRegistry documentationRegistry) {
+        this(parentWorkerLease, workerFactory, processorFactory, options, classPath, buildConfigAction, moduleRegistry, documentationRegistry, false);
+    }
+
+    public ForkingTestClassProcessor(WorkerLeaseRegistry.WorkerLease parentWorkerLease, WorkerProcessFactory workerFactory, WorkerTestClassProcessorFactory processorFactory, JavaForkOptions options, Iterable<File> classPath, Action<WorkerProcessBuilder> buildConfigAction, ModuleRegistry moduleRegistry, DocumentationRegistry documentationRegistry, boolean pullTestClasses) {
         this.currentWorkerLease = parentWorkerLease;
         this.workerFactory = workerFactory;
         this.processorFactory = processorFactory;
@@ -64,6 +81,7 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
         this.buildConfigAction = buildConfigAction;
         this.moduleRegistry = moduleRegistry;
         this.documentationRegistry = documentationRegistry;
+        this.pullTestClasses = pullTestClasses;
     }
 
     @Override
@@ -78,6 +96,9 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
             if (stoppedNow) {
                 return;
             }
+            if (pullTestClasses && workerStopped) {
+                throw workerStoppedUnexpectedly(testClass);
+            }
 
             if (remoteProcessor == null) {
                 completion = currentWorkerLease.startChild();
@@ -86,11 +107,25 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
             }
 
             remoteProcessor.processTestClass(testClass);
+
+            if (pullTestClasses) {
+                testClassesInWorker++;
+                while (testClassesInWorker > MAX_QUEUED_TEST_CLASSES && !workerStopped && !stoppedNow) {
+                    workerStateChanged.awaitUninterruptibly();
+                }
+                if (workerStopped && !stoppedNow) {
+                    throw workerStoppedUnexpectedly(testClass);
+                }
+            }
         } finally {
             lock.unlock();
         }
     }
 
+    private TestClassProcessorStoppedException workerStoppedUnexpectedly(TestClassRunInfo testClass) {
+        return new TestClassProcessorStoppedException(String.format("Could not run test class '%s' as the test worker process has stopped.", testClass.getTestClassName()));
+    }
+
     RemoteTestClassProcessor forkProcess() {
         WorkerProcessBuilder builder = workerFactory.create(new TestWorker(processorFactory));
         builder.setBaseName("Gradle Test Executor");
@@ -106,6 +141,7 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
         ObjectConnection connection = workerProcess.getConnection();
         connection.useParameterSerializers(TestEventSerializer.create());
         connection.addIncoming(TestResultProcessor.class, resultProcessor);
+        connection.addIncoming(RemoteTestClassProcessorListener.class, new WorkerStateListener());
         RemoteTestClassProcessor remoteProcessor = connection.addOutgoing(RemoteTestClassProcessor.class);
         connection.connect();
         remoteProcessor.startProcessing();
@@ -168,6 +204,7 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
         lock.lock();
         try {
             stoppedNow = true;
+            workerStateChanged.signalAll();
             if (remoteProcessor != null) {
                 workerProcess.stopNow();
             }
@@ -175,4 +212,31 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
             lock.unlock();
         }
     }
+
+    /**
+     * Tracks whether the worker is free. The stream completes when the worker exits, including when it crashes, so a caller waiting on the worker is always released.
+     */
+    private class WorkerStateListener implements RemoteTestClassProcessorListener, StreamCompletion {
+        @Override
+        public void testClassProcessed() {
+            lock.lock();
+            try {
+                testClassesInWorker--;
+                workerStateChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void endStream() {
+            lock.lock();
+            try {
+                workerStopped = true;
+                workerStateChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
 }
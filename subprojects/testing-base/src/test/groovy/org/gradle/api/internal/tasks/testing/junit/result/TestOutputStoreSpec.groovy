@@ -145,6 +145,35 @@ class TestOutputStoreSpec extends WorkspaceTest {
         reader.close()
     }
 
+    def "readers see the output of the most recent writer"() {
+        when:
+        def writer = output.writer()
+        writer.onOutput(1, 1, output(StdOut, "[out-1]"))
+        writer.close()
+        def reader1 = output.reader()
+        def reader2 = output.reader()
+
+        then:
+        collectAllOutput(reader1, 1, StdOut) == "[out-1]"
+        collectAllOutput(reader2, 1, StdOut) == "[out-1]"
+
+        when:
+        reader1.close()
+        reader2.close()
+        writer = output.writer()
+        writer.onOutput(2, 1, output(StdOut, "[out-2]"))
+        writer.close()
+        reader1 = output.reader()
+
+        then:
+        collectAllOutput(reader1, 1, StdOut) == ""
+        collectAllOutput(reader1, 2, StdOut) == "[out-2]"
+
+        cleanup:
+        reader1?.close()
+        reader2?.close()
+    }
+
     def "can open empty reader"() {
         // neither file
         expect:
@@ -17,6 +17,7 @@
 package org.gradle.api.internal.tasks.testing.processors
 
 import org.gradle.api.internal.tasks.testing.TestClassProcessor
+import org.gradle.api.internal.tasks.testing.TestClassProcessorStoppedException
 import org.gradle.api.internal.tasks.testing.TestClassRunInfo
 import org.gradle.api.internal.tasks.testing.TestResultProcessor
 import org.gradle.internal.actor.Actor
@@ -168,6 +169,108 @@ class MaxNParallelTestClassProcessorTest extends Specification {
         1 * asyncProcessor2.processTestClass(test)
     }
 
+    def "idle processors take the test classes sent to busy processors when pulling test classes"() {
+        def pullingProcessor = new MaxNParallelTestClassProcessor(2, factory, actorFactory, true)
+        TestClassRunInfo test1 = Mock()
+        TestClassRunInfo test2 = Mock()
+        TestClassRunInfo test3 = Mock()
+        TestClassProcessor processor1 = Mock()
+        TestClassProcessor processor2 = Mock()
+        TestClassProcessor asyncProcessor1 = Mock()
+        Actor actor1 = Mock()
+        Actor actor2 = Mock()
+        TestClassProcessor pollingProcessor1 = null
+        TestClassProcessor pollingProcessor2 = null
+
+        given:
+        actorFactory.createActor(resultProcessor) >> resultProcessorActor
+        resultProcessorActor.getProxy(TestResultProcessor) >> asyncResultProcessor
+        pullingProcessor.startProcessing(resultProcessor)
+
+        when:
+        pullingProcessor.processTestClass(test1)
+
+        then:
+        1 * factory.create() >> processor1
+        1 * actorFactory.createActor(_) >> { pollingProcessor1 = it[0]; actor1 }
+        1 * actor1.getProxy(TestClassProcessor) >> asyncProcessor1
+        1 * asyncProcessor1.processTestClass(test1)
+        0 * processor1.processTestClass(_)
+
+        when:
+        pullingProcessor.processTestClass(test2)
+
+        then:
+        1 * factory.create() >> processor2
+        1 * actorFactory.createActor(_) >> { pollingProcessor2 = it[0]; actor2 }
+        1 * actor2.getProxy(TestClassProcessor) >> { pollingProcessor2 }
+        1 * processor2.processTestClass(test1)
+
+        then:
+        1 * processor2.processTestClass(test2)
+
+        when:
+        pullingProcessor.processTestClass(test3)
+
+        then:
+        1 * asyncProcessor1.processTestClass(test3)
+        0 * processor2.processTestClass(_)
+
+        when:
+        pollingProcessor1.processTestClass(test1)
+        pollingProcessor1.processTestClass(test3)
+
+        then:
+        1 * processor1.processTestClass(test3)
+        0 * processor1.processTestClass(test1)
+    }
+
+    def "stops handing out test classes when a processor can no longer take them while pulling test classes"() {
+        def pullingProcessor = new MaxNParallelTestClassProcessor(1, factory, actorFactory, true)
+        def failure = new TestClassProcessorStoppedException("worker stopped")
+        TestClassRunInfo test1 = Mock()
+        TestClassRunInfo test2 = Mock()
+        TestClassRunInfo test3 = Mock()
+        TestClassProcessor processor1 = Mock()
+        TestClassProcessor asyncProcessor1 = Mock()
+        Actor actor1 = Mock()
+        TestClassProcessor pollingProcessor1 = null
+
+        given:
+        actorFactory.createActor(resultProcessor) >> resultProcessorActor
+        resultProcessorActor.getProxy(TestResultProcessor) >> asyncResultProcessor
+        pullingProcessor.startProcessing(resultProcessor)
+
+        when:
+        pullingProcessor.processTestClass(test1)
+        pullingProcessor.processTestClass(test2)
+        pullingProcessor.processTestClass(test3)
+
+        then:
+        1 * factory.create() >> processor1
+        1 * actorFactory.createActor(_) >> { pollingProcessor1 = it[0]; actor1 }
+        1 * actor1.getProxy(TestClassProcessor) >> asyncProcessor1
+        3 * asyncProcessor1.processTestClass(_)
+
+        when:
+        pollingProcessor1.processTestClass(test1)
+        pollingProcessor1.processTestClass(test2)
+        pollingProcessor1.processTestClass(test3)
+
+        then:
+        1 * processor1.processTestClass(test1)
+        1 * processor1.processTestClass(test2) >> { throw failure }
+        0 * processor1.processTestClass(_)
+
+        when:
+        pollingProcessor1.stop()
+
+        then:
+        1 * processor1.stop()
+        def e = thrown(TestClassProcessorStoppedException)
+        e.is(failure)
+    }
+
     def "stopNow propagates to factory created processors"() {
         TestClassRunInfo test = Mock()
         TestClassProcessor processor1 = Mock()
@@ -20,9 +20,11 @@ import org.gradle.api.Action
 import org.gradle.api.internal.DocumentationRegistry
 import org.gradle.api.internal.classpath.Module
 import org.gradle.api.internal.classpath.ModuleRegistry
+import org.gradle.api.internal.tasks.testing.TestClassProcessorStoppedException
 import org.gradle.api.internal.tasks.testing.TestClassRunInfo
 import org.gradle.api.internal.tasks.testing.WorkerTestClassProcessorFactory
 import org.gradle.internal.classpath.ClassPath
+import org.gradle.internal.dispatch.StreamCompletion
 import org.gradle.internal.remote.ObjectConnection
 import org.gradle.internal.work.WorkerLeaseRegistry
 import org.gradle.process.JavaForkOptions
@@ -31,10 +33,10 @@ import org.gradle.process.internal.JavaExecHandleBuilder
 import org.gradle.process.internal.worker.WorkerProcess
 import org.gradle.process.internal.worker.WorkerProcessBuilder
 import org.gradle.process.internal.worker.WorkerProcessFactory
-import spock.lang.Specification
+import org.gradle.test.fixtures.concurrent.ConcurrentSpec
 import spock.lang.Subject
 
-class ForkingTestClassProcessorTest extends Specification {
+class ForkingTestClassProcessorTest extends ConcurrentSpec {
     WorkerLeaseRegistry.WorkerLease workerLease = Mock(WorkerLeaseRegistry.WorkerLease)
     WorkerProcessBuilder workerProcessBuilder = Mock(WorkerProcessBuilder)
     WorkerProcess workerProcess = Mock(WorkerProcess)
@@ -123,6 +125,106 @@ class ForkingTestClassProcessorTest extends Specification {
         notThrown(ExecException)
     }
 
+    def "holds back further test classes until the worker has finished one when pulling test classes"() {
+        def remoteProcessor = Mock(RemoteTestClassProcessor)
+        RemoteTestClassProcessorListener listener = null
+        def processor = pullingProcessor(remoteProcessor) { listener = it }
+        def test1 = Stub(TestClassRunInfo)
+        def test2 = Stub(TestClassRunInfo)
+
+        when:
+        async {
+            start {
+                processor.processTestClass(test1)
+                instant.firstSent
+                processor.processTestClass(test2)
+                instant.secondReturned
+            }
+            thread.blockUntil.firstSent
+            thread.block()
+            instant.firstProcessed
+            listener.testClassProcessed()
+        }
+
+        then:
+        instant.secondReturned > instant.firstProcessed
+        1 * remoteProcessor.processTestClass(test1)
+        1 * remoteProcessor.processTestClass(test2)
+    }
+
+    def "releases a blocked caller and rejects further test classes when the worker stops unexpectedly"() {
+        def remoteProcessor = Mock(RemoteTestClassProcessor)
+        StreamCompletion listener = null
+        def processor = pullingProcessor(remoteProcessor) { listener = it }
+        def test1 = Stub(TestClassRunInfo)
+        def test2 = Stub(TestClassRunInfo) { getTestClassName() >> "Test2" }
+        def test3 = Stub(TestClassRunInfo) { getTestClassName() >> "Test3" }
+
+        when:
+        async {
+            start {
+                processor.processTestClass(test1)
+                instant.firstSent
+                processor.processTestClass(test2)
+            }
+            thread.blockUntil.firstSent
+            thread.block()
+            listener.endStream()
+        }
+
+        then:
+        def e = thrown(TestClassProcessorStoppedException)
+        e.message == "Could not run test class 'Test2' as the test worker process has stopped."
+
+        when:
+        processor.processTestClass(test3)
+
+        then:
+        e = thrown(TestClassProcessorStoppedException)
+        e.message == "Could not run test class 'Test3' as the test worker process has stopped."
+        0 * remoteProcessor._
+    }
+
+    def "stopNow releases a blocked caller"() {
+        def remoteProcessor = Mock(RemoteTestClassProcessor)
+        def processor = pullingProcessor(remoteProcessor) {}
+        def test1 = Stub(TestClassRunInfo)
+        def test2 = Stub(TestClassRunInfo)
+        def test3 = Stub(TestClassRunInfo)
+
+        when:
+        async {
+            start {
+                processor.processTestClass(test1)
+                instant.firstSent
+                processor.processTestClass(test2)
+                instant.secondReturned
+            }
+            thread.blockUntil.firstSent
+            thread.block()
+            instant.stopped
+            processor.stopNow()
+        }
+
+        then:
+        instant.secondReturned > instant.stopped
+        1 * workerProcess.stopNow()
+
+        when:
+        processor.processTestClass(test3)
+
+        then:
+        0 * remoteProcessor._
+    }
+
+    ForkingTestClassProcessor pullingProcessor(RemoteTestClassProcessor remoteProcessor, Closure listenerReceiver) {
+        workerProcess.getConnection() >> Stub(ObjectConnection) {
+            addOutgoing(RemoteTestClassProcessor) >> remoteProcessor
+            addIncoming(RemoteTestClassProcessorListener, _) >> { listenerReceiver(it[1]) }
+        }
+        return new ForkingTestClassProcessor(Stub(WorkerLeaseRegistry.WorkerLease), workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], Mock(Action), Stub(ModuleRegistry), documentationRegistry, true)
+    }
+
     def module(String module) {
         return Stub(Module) {
             _ * getImplementationClasspath() >> {
@@ -48,6 +48,16 @@ class TestEventSerializerTest extends SerializerSpec {
         result == id
     }
 
+    def "serializes CompositeId with large values"() {
+        def id = new CompositeIdGenerator.CompositeId(Long.MAX_VALUE, -1L)
+
+        when:
+        def result = serialize(id)
+
+        then:
+        result == id
+    }
+
     def "serializes DefaultTestSuiteDescriptor"() {
         def id = new CompositeIdGenerator.CompositeId(1L, 2L)
         def descriptor = new DefaultTestSuiteDescriptor(id, "some-test")
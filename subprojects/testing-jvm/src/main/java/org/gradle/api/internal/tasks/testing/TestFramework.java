@@ -44,4 +44,10 @@ public interface TestFramework {
      * executed before starting each worker process.
      */
     Action<WorkerProcessBuilder> getWorkerConfigurationAction();
+
+    /**
+     * Returns true if the test processor created by {@link #getProcessorFactory()} runs each test class as soon as it receives it, rather than
+     * when it is stopped. Test classes are then handed to the worker processes as they become free, instead of being assigned to them up front.
+     */
+    boolean runsTestClassesOnReceipt();
 }
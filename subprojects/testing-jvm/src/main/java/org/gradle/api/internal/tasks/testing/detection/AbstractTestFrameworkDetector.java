@@ -45,6 +45,7 @@ public abstract class AbstractTestFrameworkDetector<T extends TestClassVisitor>
     private List<File> testClassDirectories;
     private final ClassFileExtractionManager classFileExtractionManager;
     private final Map<File, Boolean> superClasses;
+    private final Map<String, File> superClassFiles;
     private TestClassProcessor testClassProcessor;
 
     private Set<File> testClassesDirectories;
@@ -54,15 +55,33 @@ public abstract class AbstractTestFrameworkDetector<T extends TestClassVisitor>
         assert classFileExtractionManager != null;
         this.classFileExtractionManager = classFileExtractionManager;
         this.superClasses = new HashMap<File, Boolean>();
+        this.superClassFiles = new HashMap<String, File>();
     }
 
     protected abstract T createClassVisitor();
 
+    /**
+     * Locates the class file of a super class. Many test classes share the same few super classes, so the result is remembered by class name, rather than
+     * probing every test classes directory and library jar again for each test class.
+     */
     private File getSuperTestClassFile(String superClassName) {
-        prepareClasspath();
         if (StringUtils.isEmpty(superClassName)) {
             throw new IllegalArgumentException("superClassName is empty!");
         }
+        if (JAVA_LANG_OBJECT.equals(superClassName)) {
+            // java.lang.Object found, which is not a test class
+            return null;
+        }
+        if (superClassFiles.containsKey(superClassName)) {
+            return superClassFiles.get(superClassName);
+        }
+        File superTestClassFile = findSuperTestClassFile(superClassName);
+        superClassFiles.put(superClassName, superTestClassFile);
+        return superTestClassFile;
+    }
+
+    private File findSuperTestClassFile(String superClassName) {
+        prepareClasspath();
 
         File superTestClassFile = null;
         for (File testClassDirectory : testClassDirectories) {
@@ -74,9 +93,6 @@ public abstract class AbstractTestFrameworkDetector<T extends TestClassVisitor>
 
         if (superTestClassFile != null) {
             return superTestClassFile;
-        } else if (JAVA_LANG_OBJECT.equals(superClassName)) {
-            // java.lang.Object found, which is not a test class
-            return null;
         } else {
             // super test class file not in test class directories
             return classFileExtractionManager.getLibraryClassFile(superClassName);
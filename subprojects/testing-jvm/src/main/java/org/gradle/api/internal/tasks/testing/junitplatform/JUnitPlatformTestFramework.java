@@ -61,6 +61,12 @@ public class JUnitPlatformTestFramework implements TestFramework {
         };
     }
 
+    @Override
+    public boolean runsTestClassesOnReceipt() {
+        // The JUnit Platform runs all the test classes of a worker together, once it is stopped
+        return false;
+    }
+
     @Override
     public JUnitPlatformOptions getOptions() {
         return options;
@@ -120,6 +120,12 @@ public class TestNGTestFramework implements TestFramework {
         };
     }
 
+    @Override
+    public boolean runsTestClassesOnReceipt() {
+        // TestNG runs all the test classes of a worker together, once it is stopped
+        return false;
+    }
+
     @Override
     public TestNGOptions getOptions() {
         return options;